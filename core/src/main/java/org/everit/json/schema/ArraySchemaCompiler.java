@@ -0,0 +1,197 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.json.JSONArray;
+
+class ArraySchemaCompiler extends Visitor {
+
+    static KeywordChecker<Object> compile(ArraySchema arraySchema) {
+        ArraySchemaCompiler compiler = new ArraySchemaCompiler(arraySchema);
+        arraySchema.accept(compiler);
+        return KeywordChecker.typeChecked(JSONArray.class, arraySchema.requiresArray(), arraySchema.isNullable(),
+                KeywordChecker.sequence(compiler.checkers));
+    }
+
+    private final ArraySchema arraySchema;
+
+    private final List<KeywordChecker<JSONArray>> checkers = new ArrayList<>();
+
+    private ArraySchemaCompiler(ArraySchema arraySchema) {
+        this.arraySchema = requireNonNull(arraySchema, "arraySchema cannot be null");
+    }
+
+    @Override void visitMinItems(Integer minItems) {
+        if (minItems != null) {
+            int min = minItems.intValue();
+            checkers.add((arraySubject, owner) -> {
+                int subjectLength = arraySubject.length();
+                if (subjectLength < min) {
+                    owner.keywordFailure("minItems", "array.minItems", minItems, subjectLength);
+                }
+            });
+        }
+    }
+
+    @Override void visitMaxItems(Integer maxItems) {
+        if (maxItems != null) {
+            int max = maxItems.intValue();
+            checkers.add((arraySubject, owner) -> {
+                int subjectLength = arraySubject.length();
+                if (max < subjectLength) {
+                    owner.keywordFailure("maxItems", "array.maxItems", maxItems, subjectLength);
+                }
+            });
+        }
+    }
+
+    @Override void visitUniqueItems(boolean uniqueItems) {
+        if (!uniqueItems) {
+            return;
+        }
+        checkers.add((arraySubject, owner) -> {
+            if (hasDuplicateItems(arraySubject)) {
+                owner.keywordFailure("uniqueItems", "array.uniqueItems");
+            }
+        });
+    }
+
+    /**
+     * Checks if {@code arraySubject} contains structurally equal items. Arrays of integers are sorted and checked for
+     * equal neighbours, without boxing; other items are hashed once into a {@link JsonValueSet}, so they are only
+     * compared deeply to items with the same hash.
+     */
+    static boolean hasDuplicateItems(JSONArray arraySubject) {
+        int length = arraySubject.length();
+        if (length < 2) {
+            return false;
+        }
+        long[] integers = integerItemsOf(arraySubject);
+        if (integers != null) {
+            Arrays.sort(integers);
+            for (int i = 1; i < length; ++i) {
+                if (integers[i - 1] == integers[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        JsonValueSet uniques = new JsonValueSet(length);
+        for (int i = 0; i < length; ++i) {
+            if (!uniques.add(arraySubject.opt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the items of {@code arraySubject} as {@code long}s if all of them are {@link Integer}s or {@link Long}s,
+     * otherwise {@code null}.
+     */
+    private static long[] integerItemsOf(JSONArray arraySubject) {
+        if (!isInteger(arraySubject.opt(0))) {
+            return null;
+        }
+        int length = arraySubject.length();
+        long[] integers = new long[length];
+        for (int i = 0; i < length; ++i) {
+            Object item = arraySubject.opt(i);
+            if (!isInteger(item)) {
+                return null;
+            }
+            integers[i] = ((Number) item).longValue();
+        }
+        return integers;
+    }
+
+    private static boolean isInteger(Object item) {
+        return item instanceof Integer || item instanceof Long;
+    }
+
+    @Override void visitAllItemSchema(Schema allItemSchema) {
+        if (allItemSchema != null) {
+            checkers.add((arraySubject, owner) -> validateItemsAgainstSchema(arraySubject, owner, 0, allItemSchema));
+        }
+    }
+
+    @Override void visitItemSchema(int index, Schema itemSchema) {
+        String idx = String.valueOf(index);
+        checkers.add((arraySubject, owner) -> {
+            if (index >= arraySubject.length()) {
+                return;
+            }
+            ValidationFailure failure = owner.getFailureOfSchema(itemSchema, arraySubject.get(index));
+            if (failure != null) {
+                owner.subschemaFailure(failure, idx);
+            }
+        });
+    }
+
+    @Override void visitAdditionalItems(boolean additionalItems) {
+        List<Schema> itemSchemas = arraySchema.getItemSchemas();
+        if (itemSchemas != null && !additionalItems) {
+            int itemSchemaCount = itemSchemas.size();
+            checkers.add((arraySubject, owner) -> {
+                int subjectLength = arraySubject.length();
+                if (subjectLength > itemSchemaCount) {
+                    owner.keywordFailure("items", "array.additionalItems", itemSchemaCount, subjectLength);
+                }
+            });
+        }
+    }
+
+    @Override void visitSchemaOfAdditionalItems(Schema schemaOfAdditionalItems) {
+        if (schemaOfAdditionalItems == null) {
+            return;
+        }
+        List<Schema> itemSchemas = arraySchema.getItemSchemas();
+        int itemSchemaCount = itemSchemas == null ? 0 : itemSchemas.size();
+        checkers.add((arraySubject, owner) -> validateItemsAgainstSchema(arraySubject, owner, itemSchemaCount,
+                schemaOfAdditionalItems));
+    }
+
+    private static void validateItemsAgainstSchema(JSONArray arraySubject, ValidatingVisitor owner, int validationFrom,
+            Schema schema) {
+        for (int i = validationFrom; i < arraySubject.length(); ++i) {
+            ValidationFailure failure = owner.getFailureOfSchema(schema, arraySubject.get(i));
+            if (failure != null) {
+                owner.subschemaFailure(failure, String.valueOf(i));
+            }
+        }
+    }
+
+    @Override void visitContainedItemSchema(Schema containedItemSchema) {
+        if (containedItemSchema == null) {
+            return;
+        }
+        checkers.add((arraySubject, owner) -> {
+            for (int i = 0; i < arraySubject.length(); i++) {
+                if (owner.getFailureOfSchema(containedItemSchema, arraySubject.get(i)) == null) {
+                    return;
+                }
+            }
+            owner.keywordFailure("contains", "array.contains");
+        });
+    }
+}
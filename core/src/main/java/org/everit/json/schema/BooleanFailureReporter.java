@@ -0,0 +1,122 @@
+package org.everit.json.schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.everit.json.schema.i18n.MessageCatalog;
+
+/**
+ * Failure reporter used by {@link Validator#isValid(Schema, Object)}.
+ * <p>
+ * It stops the validation at the first failure, and it never looks up or formats failure messages, nor builds
+ * pointers or {@link ValidationFailure} instances. Failures of subschemas are represented by a single shared
+ * failure instance, which is only used as a non-{@code null} marker.
+ * </p>
+ */
+class BooleanFailureReporter extends ValidationFailureReporter {
+
+    /**
+     * Stackless signal used for unwinding the validation after the first failure.
+     */
+    private static final class Violation extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private Violation() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Violation VIOLATION = new Violation();
+
+    private static final ValidationFailure SUBSCHEMA_FAILURE = ValidationFailure.ofMessage(EmptySchema.INSTANCE, null,
+            "subschema is invalid");
+
+    private static boolean isSatisfied(CombinedSchema.ValidationCriterion criterion, int subschemaCount,
+            int matchingCount) {
+        if (criterion == CombinedSchema.ALL_CRITERION) {
+            return matchingCount == subschemaCount;
+        } else if (criterion == CombinedSchema.ANY_CRITERION) {
+            return matchingCount > 0;
+        } else if (criterion == CombinedSchema.ONE_CRITERION) {
+            return matchingCount == 1;
+        }
+        try {
+            criterion.validate(subschemaCount, matchingCount);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    BooleanFailureReporter(Schema schema, MessageCatalog messageCatalog) {
+        super(schema, messageCatalog);
+    }
+
+    /**
+     * Runs {@code task} and returns {@code true} if it didn't report any failures.
+     */
+    boolean isValid(Runnable task) {
+        try {
+            task.run();
+            return true;
+        } catch (Violation e) {
+            return false;
+        }
+    }
+
+    @Override void failure(String message, String keyword) {
+        throw VIOLATION;
+    }
+
+    @Override void failure(Function<MessageCatalog, String> message, String keyword) {
+        throw VIOLATION;
+    }
+
+    @Override void failure(Class<?> expectedType, Object actualValue) {
+        throw VIOLATION;
+    }
+
+    @Override void keywordFailure(String keyword, String messageKey, Object... messageArgs) {
+        throw VIOLATION;
+    }
+
+    @Override void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment) {
+        throw VIOLATION;
+    }
+
+    @Override void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment,
+            Schema violatedSchema) {
+        throw VIOLATION;
+    }
+
+    @Override void failureWithCauses(String keyword, String messageKey, List<ValidationFailure> causes) {
+        throw VIOLATION;
+    }
+
+    @Override void validateCriterion(CombinedSchema.ValidationCriterion criterion, int subschemaCount,
+            int matchingCount, List<ValidationFailure> failures) {
+        if (!isSatisfied(criterion, subschemaCount, matchingCount)) {
+            throw VIOLATION;
+        }
+    }
+
+    @Override void failure(ValidationFailure failure) {
+        throw VIOLATION;
+    }
+
+    @Override ValidationFailure failureOfSchema(Schema schema, Runnable task) {
+        try {
+            return super.failureOfSchema(schema, task);
+        } catch (Violation e) {
+            return SUBSCHEMA_FAILURE;
+        }
+    }
+
+    @Override boolean isFailingEarly() {
+        return true;
+    }
+
+    @Override void validationFinished() {
+    }
+}
@@ -3,38 +3,45 @@ package org.everit.json.schema;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.everit.json.schema.i18n.MessageCatalog;
+
 class CollectingFailureReporter extends ValidationFailureReporter {
 
-    private List<ValidationException> failures = new ArrayList<>(1);
+    private List<ValidationFailure> failures = new ArrayList<>(1);
 
     CollectingFailureReporter(Schema schema) {
         super(schema);
     }
 
+    CollectingFailureReporter(Schema schema, MessageCatalog messageCatalog) {
+        super(schema, messageCatalog);
+    }
+
     @Override
-    public void failure(ValidationException exc) {
-        failures.add(exc);
+    void failure(ValidationFailure failure) {
+        failures.add(failure);
     }
 
     public void validationFinished() {
-        ValidationException.throwFor(schema, failures);
+        ValidationException.throwFor(schema, ValidationFailure.toExceptions(failures), messageCatalog);
     }
 
-    public ValidationException inContextOfSchema(Schema schema, Runnable task) {
+    @Override
+    ValidationFailure failureOfSchema(Schema schema, Runnable task) {
         int failureCountBefore = failures.size();
-        super.inContextOfSchema(schema, task);
+        super.failureOfSchema(schema, task);
         int failureCountAfter = failures.size(), newFailureCount = failureCountAfter - failureCountBefore;
         if (newFailureCount == 0) {
             return null;
         } else if (newFailureCount == 1) {
             return failures.remove(failures.size() - 1);
         } else {
-            List<ValidationException> newFailures = new ArrayList<>(failures.subList(failureCountBefore, failures.size()));
+            List<ValidationFailure> newFailures = new ArrayList<>(failures.subList(failureCountBefore, failures.size()));
             int toBeRemoved = newFailureCount, lastIndex = failureCountAfter;
             while (toBeRemoved-- > 0) {
                 failures.remove(--lastIndex);
             }
-            return ValidationException.createWrappingException(schema, newFailures);
+            return ValidationFailure.wrapping(schema, messageCatalog, newFailures);
         }
     }
 
@@ -16,7 +16,6 @@
  */
 package org.everit.json.schema;
 
-import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
@@ -24,7 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.everit.json.schema.internal.JSONPrinter;
 
 /**
@@ -87,18 +86,87 @@ public class CombinedSchema extends Schema {
          */
         void validate(int subschemaCount, int matchingSubschemaCount);
 
+        /**
+         * Same as {@link #validate(int, int)}, with the message of the thrown {@link ValidationException} looked up in
+         * {@code catalog}. The default implementation ignores {@code catalog}.
+         *
+         * @param subschemaCount
+         *         the total number of checked subschemas
+         * @param matchingSubschemaCount
+         *         the number of subschemas which successfully validated the subject
+         * @param catalog
+         *         the message catalog of the validation
+         */
+        default void validate(int subschemaCount, int matchingSubschemaCount, MessageCatalog catalog) {
+            validate(subschemaCount, matchingSubschemaCount);
+        }
+
+    }
+
+    /**
+     * Validation criterion which can be evaluated incrementally, while the subschemas are checked one by one.
+     * <p>
+     * If no {@link org.everit.json.schema.event.ValidationListener} needs the per-subschema events, the validation stops
+     * checking the remaining subschemas as soon as the criterion {@link #isSatisfied(int, int, int) is satisfied}.
+     * If the validation fails early, it also stops as soon as the criterion {@link #isViolated(int, int, int) is
+     * violated}. In both cases {@link #validate(int, int)} is only called with the counts known at that point.
+     * </p>
+     * <p>
+     * Both methods must only return {@code true} if the outcome can't be changed by the results of the remaining
+     * {@code subschemaCount - checkedCount} subschemas.
+     * </p>
+     */
+    public interface IncrementalValidationCriterion extends ValidationCriterion {
+
+        /**
+         * @param subschemaCount
+         *         the total number of subschemas
+         * @param checkedCount
+         *         the number of subschemas checked so far
+         * @param matchingCount
+         *         the number of checked subschemas which successfully validated the subject
+         * @return {@code true} if the criterion is fulfilled, whatever the remaining subschemas return
+         */
+        boolean isSatisfied(int subschemaCount, int checkedCount, int matchingCount);
+
+        /**
+         * @param subschemaCount
+         *         the total number of subschemas
+         * @param checkedCount
+         *         the number of subschemas checked so far
+         * @param matchingCount
+         *         the number of checked subschemas which successfully validated the subject
+         * @return {@code true} if the criterion can't be fulfilled, whatever the remaining subschemas return
+         */
+        boolean isViolated(int subschemaCount, int checkedCount, int matchingCount);
+
     }
 
     /**
      * Validation criterion for {@code allOf} schemas.
      */
-    public static final ValidationCriterion ALL_CRITERION = new ValidationCriterion() {
+    public static final ValidationCriterion ALL_CRITERION = new IncrementalValidationCriterion() {
+
+        @Override
+        public boolean isSatisfied(int subschemaCount, int checkedCount, int matchingCount) {
+            return matchingCount == subschemaCount;
+        }
+
+        @Override
+        public boolean isViolated(int subschemaCount, int checkedCount, int matchingCount) {
+            return matchingCount < checkedCount;
+        }
 
         @Override
         public void validate(int subschemaCount, int matchingCount) {
+            validate(subschemaCount, matchingCount, MessageCatalog.DEFAULT);
+        }
+
+        @Override
+        public void validate(int subschemaCount, int matchingCount, MessageCatalog catalog) {
             if (matchingCount < subschemaCount) {
                 throw new ValidationException(null,
-                        format(ResourceBundleThreadLocal.get().getString("combined.allOf"), matchingCount, subschemaCount),
+                        catalog.format("combined.allOf", matchingCount, subschemaCount),
                         "allOf"
                 );
             }
@@ -114,14 +182,27 @@ public class CombinedSchema extends Schema {
     /**
      * Validation criterion for {@code anyOf} schemas.
      */
-    public static final ValidationCriterion ANY_CRITERION = new ValidationCriterion() {
+    public static final ValidationCriterion ANY_CRITERION = new IncrementalValidationCriterion() {
+
+        @Override
+        public boolean isSatisfied(int subschemaCount, int checkedCount, int matchingCount) {
+            return matchingCount > 0;
+        }
+
+        @Override
+        public boolean isViolated(int subschemaCount, int checkedCount, int matchingCount) {
+            return checkedCount == subschemaCount && matchingCount == 0;
+        }
 
         @Override
         public void validate(int subschemaCount, int matchingCount) {
+            validate(subschemaCount, matchingCount, MessageCatalog.DEFAULT);
+        }
+
+        @Override
+        public void validate(int subschemaCount, int matchingCount, MessageCatalog catalog) {
             if (matchingCount == 0) {
-                throw new ValidationException(null, format(
-                        ResourceBundleThreadLocal.get().getString("combined.anyOf"),
-                        subschemaCount), "anyOf");
+                throw new ValidationException(null, catalog.format("combined.anyOf", subschemaCount), "anyOf");
             }
         }
 
@@ -135,13 +216,27 @@ public class CombinedSchema extends Schema {
      * Validation criterion for {@code oneOf} schemas.
      */
     public static final ValidationCriterion ONE_CRITERION =
-            new ValidationCriterion() {
+            new IncrementalValidationCriterion() {
+
+                @Override
+                public boolean isSatisfied(int subschemaCount, int checkedCount, int matchingCount) {
+                    return checkedCount == subschemaCount && matchingCount == 1;
+                }
+
+                @Override
+                public boolean isViolated(int subschemaCount, int checkedCount, int matchingCount) {
+                    return matchingCount > 1 || (checkedCount == subschemaCount && matchingCount == 0);
+                }
 
                 @Override
                 public void validate(int subschemaCount, int matchingCount) {
+                    validate(subschemaCount, matchingCount, MessageCatalog.DEFAULT);
+                }
+
+                @Override
+                public void validate(int subschemaCount, int matchingCount, MessageCatalog catalog) {
                     if (matchingCount != 1) {
-                        throw new ValidationException(null, format(ResourceBundleThreadLocal.get().getString("combined.oneOf"),
-                                matchingCount), "oneOf");
+                        throw new ValidationException(null, catalog.format("combined.oneOf", matchingCount), "oneOf");
                     }
                 }
 
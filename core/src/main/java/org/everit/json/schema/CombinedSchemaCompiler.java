@@ -0,0 +1,205 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.everit.json.schema.event.CombinedSchemaMatchEvent;
+import org.everit.json.schema.event.CombinedSchemaMismatchEvent;
+
+/**
+ * Compiles the validation of {@code allOf}, {@code anyOf} and {@code oneOf} schemas.
+ * <p>
+ * If the criterion is an {@link CombinedSchema.IncrementalValidationCriterion incremental} one and no listener needs
+ * the per-subschema events, then only the candidate subschemas are checked which may match the subject: the ones
+ * selected by the {@link DiscriminatorIndex} for discriminated JSON objects, otherwise the ones which
+ * {@link JsonTypes accept} the JSON type of the subject. The rest of the subschemas are counted as failing. Likewise,
+ * the checking of the subschemas stops once the criterion is satisfied.
+ * </p>
+ * <p>
+ * Neither happens if any of the subschemas may {@link DefaultValues inject default values} into the subject, since then
+ * all subschemas are checked, so that all default values are injected.
+ * </p>
+ */
+class CombinedSchemaCompiler {
+
+    static KeywordChecker<Object> compile(CombinedSchema combinedSchema) {
+        CombinedSchemaCompiler compiler = new CombinedSchemaCompiler(combinedSchema);
+        return compiler::validate;
+    }
+
+    private final CombinedSchema combinedSchema;
+
+    private final Schema[] subschemas;
+
+    private final CombinedSchema.ValidationCriterion criterion;
+
+    private final CombinedSchema.IncrementalValidationCriterion incrementalCriterion;
+
+    private final DiscriminatorIndex discriminatorIndex;
+
+    /**
+     * The subschemas accepting each JSON type, indexed by {@link JsonTypes#typeIndexOf(Object)}. It is {@code null}
+     * if every subschema accepts every type.
+     */
+    private final Schema[][] candidatesByType;
+
+    private CombinedSchemaCompiler(CombinedSchema combinedSchema) {
+        this.combinedSchema = requireNonNull(combinedSchema, "combinedSchema cannot be null");
+        Collection<Schema> subschemaCollection = combinedSchema.getSubschemas();
+        this.subschemas = subschemaCollection.toArray(new Schema[subschemaCollection.size()]);
+        this.criterion = combinedSchema.getCriterion();
+        if (criterion instanceof CombinedSchema.IncrementalValidationCriterion
+                && !DefaultValues.mayBeInjectedBy(combinedSchema)) {
+            this.incrementalCriterion = (CombinedSchema.IncrementalValidationCriterion) criterion;
+            this.discriminatorIndex = criterion == CombinedSchema.ANY_CRITERION
+                    || criterion == CombinedSchema.ONE_CRITERION ? DiscriminatorIndex.of(combinedSchema) : null;
+            this.candidatesByType = indexByType(subschemas);
+        } else {
+            this.incrementalCriterion = null;
+            this.discriminatorIndex = null;
+            this.candidatesByType = null;
+        }
+    }
+
+    private static Schema[][] indexByType(Schema[] subschemas) {
+        int[] acceptedTypes = new int[subschemas.length];
+        boolean allAcceptAll = true;
+        for (int i = 0; i < subschemas.length; ++i) {
+            acceptedTypes[i] = JsonTypes.acceptedBy(subschemas[i]);
+            allAcceptAll &= acceptedTypes[i] == JsonTypes.ALL;
+        }
+        if (allAcceptAll) {
+            return null;
+        }
+        Schema[][] candidatesByType = new Schema[JsonTypes.TYPE_COUNT][];
+        for (int typeIndex = 0; typeIndex < JsonTypes.TYPE_COUNT; ++typeIndex) {
+            List<Schema> candidates = new ArrayList<>(subschemas.length);
+            for (int i = 0; i < subschemas.length; ++i) {
+                if ((acceptedTypes[i] & (1 << typeIndex)) != 0) {
+                    candidates.add(subschemas[i]);
+                }
+            }
+            candidatesByType[typeIndex] = candidates.size() == subschemas.length
+                    ? subschemas
+                    : candidates.toArray(new Schema[candidates.size()]);
+        }
+        return candidatesByType;
+    }
+
+    private void validate(Object subject, ValidatingVisitor owner) {
+        boolean listening = owner.isListening();
+        if (incrementalCriterion != null && !listening) {
+            Schema[] candidates = candidatesOf(subject);
+            if (candidates != subschemas && validateCandidates(candidates, subject, owner)) {
+                return;
+            }
+        }
+        boolean shortCircuiting = incrementalCriterion != null && !listening;
+        int subschemaCount = subschemas.length;
+        List<ValidationFailure> failures = new ArrayList<>(subschemaCount);
+        int checkedCount = 0;
+        while (checkedCount < subschemaCount) {
+            Schema subschema = subschemas[checkedCount++];
+            ValidationFailure failure = owner.getFailureOfSchema(subschema, subject);
+            if (null != failure) {
+                failures.add(failure);
+            }
+            if (listening) {
+                reportSchemaMatchEvent(owner, subschema, subject, failure);
+            } else if (shortCircuiting) {
+                int matchingCount = checkedCount - failures.size();
+                if (incrementalCriterion.isSatisfied(subschemaCount, checkedCount, matchingCount)) {
+                    return;
+                }
+                if (owner.isFailingEarly()
+                        && incrementalCriterion.isViolated(subschemaCount, checkedCount, matchingCount)) {
+                    break;
+                }
+            }
+        }
+        owner.validateCriterion(criterion, subschemaCount, checkedCount - failures.size(), failures);
+    }
+
+    /**
+     * Returns the subschemas which may match {@code subject}, or all subschemas if none of them can be skipped.
+     */
+    private Schema[] candidatesOf(Object subject) {
+        if (discriminatorIndex != null) {
+            Schema[] candidates = discriminatorIndex.candidates(subject);
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+        if (candidatesByType != null) {
+            int typeIndex = JsonTypes.typeIndexOf(subject);
+            if (typeIndex >= 0) {
+                return candidatesByType[typeIndex];
+            }
+        }
+        return subschemas;
+    }
+
+    /**
+     * Validates {@code subject} against the {@code candidates} only, the rest of the subschemas are known to fail.
+     *
+     * @return {@code true} if the validation of the combined schema is done, {@code false} if all the subschemas should
+     * be checked, because the criterion failed, and the failures of all subschemas are needed as causes
+     */
+    private boolean validateCandidates(Schema[] candidates, Object subject, ValidatingVisitor owner) {
+        int subschemaCount = subschemas.length;
+        int checkedCount = subschemaCount - candidates.length;
+        int matchingCount = 0;
+        List<ValidationFailure> failures = new ArrayList<>(candidates.length);
+        for (int i = 0; ; ++i) {
+            if (incrementalCriterion.isSatisfied(subschemaCount, checkedCount, matchingCount)) {
+                return true;
+            }
+            if (i == candidates.length || (owner.isFailingEarly()
+                    && incrementalCriterion.isViolated(subschemaCount, checkedCount, matchingCount))) {
+                break;
+            }
+            ValidationFailure failure = owner.getFailureOfSchema(candidates[i], subject);
+            ++checkedCount;
+            if (failure == null) {
+                ++matchingCount;
+            } else {
+                failures.add(failure);
+            }
+        }
+        if (!owner.isFailingEarly()) {
+            return false;
+        }
+        owner.validateCriterion(criterion, subschemaCount, matchingCount, failures);
+        return true;
+    }
+
+    private void reportSchemaMatchEvent(ValidatingVisitor owner, Schema subschema, Object subject,
+            ValidationFailure failure) {
+        if (failure == null) {
+            owner.validationListener.combinedSchemaMatch(
+                    new CombinedSchemaMatchEvent(combinedSchema, subschema, subject));
+        } else {
+            owner.validationListener.combinedSchemaMismatch(
+                    new CombinedSchemaMismatchEvent(combinedSchema, subschema, subject, failure.toException()));
+        }
+    }
+}
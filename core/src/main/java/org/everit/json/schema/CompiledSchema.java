@@ -0,0 +1,24 @@
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The immutable validation plan of a single {@link Schema} instance, created by the {@link SchemaCompiler}.
+ * <p>
+ * Only the keywords which are present in the schema have a corresponding {@link KeywordChecker}, so validating a
+ * subject doesn't need to walk the (mostly {@code null}) properties of the schema again.
+ * </p>
+ */
+final class CompiledSchema {
+
+    private final KeywordChecker<Object> checker;
+
+    CompiledSchema(KeywordChecker<Object> checker) {
+        this.checker = requireNonNull(checker, "checker cannot be null");
+    }
+
+    void validate(Object subject, ValidatingVisitor owner) {
+        checker.check(subject, owner);
+    }
+
+}
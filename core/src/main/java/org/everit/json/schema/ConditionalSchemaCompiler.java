@@ -0,0 +1,108 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+import static org.everit.json.schema.event.ConditionalSchemaValidationEvent.Keyword.ELSE;
+import static org.everit.json.schema.event.ConditionalSchemaValidationEvent.Keyword.IF;
+import static org.everit.json.schema.event.ConditionalSchemaValidationEvent.Keyword.THEN;
+
+import org.everit.json.schema.event.ConditionalSchemaMatchEvent;
+import org.everit.json.schema.event.ConditionalSchemaMismatchEvent;
+import org.everit.json.schema.event.ConditionalSchemaValidationEvent;
+
+import java.util.Arrays;
+
+class ConditionalSchemaCompiler {
+
+    static KeywordChecker<Object> compile(ConditionalSchema conditionalSchema) {
+        if (!conditionalSchema.getIfSchema().isPresent() ||
+                (!conditionalSchema.getThenSchema().isPresent() && !conditionalSchema.getElseSchema().isPresent())) {
+            return KeywordChecker.none();
+        }
+        ConditionalSchemaCompiler compiler = new ConditionalSchemaCompiler(conditionalSchema);
+        return compiler::validate;
+    }
+
+    private final ConditionalSchema conditionalSchema;
+
+    private final Schema ifSchema;
+
+    private final Schema thenSchema;
+
+    private final Schema elseSchema;
+
+    private ConditionalSchemaCompiler(ConditionalSchema conditionalSchema) {
+        this.conditionalSchema = requireNonNull(conditionalSchema, "conditionalSchema cannot be null");
+        this.ifSchema = conditionalSchema.getIfSchema().get();
+        this.thenSchema = conditionalSchema.getThenSchema().orElse(null);
+        this.elseSchema = conditionalSchema.getElseSchema().orElse(null);
+    }
+
+    private void validate(Object subject, ValidatingVisitor owner) {
+        ValidationFailure ifSchemaFailure = owner.getFailureOfSchema(ifSchema, subject);
+        if (ifSchemaFailure == null) {
+            if (owner.isListening()) {
+                owner.validationListener.ifSchemaMatch(createMatchEvent(subject, IF));
+            }
+            if (thenSchema != null) {
+                validateThenSchema(subject, owner);
+            }
+        } else {
+            if (owner.isListening()) {
+                owner.validationListener.ifSchemaMismatch(createMismatchEvent(subject, IF, ifSchemaFailure));
+            }
+            if (elseSchema != null) {
+                validateElseSchema(subject, owner, ifSchemaFailure);
+            }
+        }
+    }
+
+    private void validateThenSchema(Object subject, ValidatingVisitor owner) {
+        ValidationFailure thenSchemaFailure = owner.getFailureOfSchema(thenSchema, subject);
+        if (thenSchemaFailure != null) {
+            if (owner.isListening()) {
+                owner.validationListener.thenSchemaMismatch(createMismatchEvent(subject, THEN, thenSchemaFailure));
+            }
+            owner.failureWithCauses("then", "conditional.then", Arrays.asList(thenSchemaFailure));
+        } else if (owner.isListening()) {
+            owner.validationListener.thenSchemaMatch(createMatchEvent(subject, THEN));
+        }
+    }
+
+    private void validateElseSchema(Object subject, ValidatingVisitor owner, ValidationFailure ifSchemaFailure) {
+        ValidationFailure elseSchemaFailure = owner.getFailureOfSchema(elseSchema, subject);
+        if (elseSchemaFailure != null) {
+            if (owner.isListening()) {
+                owner.validationListener.elseSchemaMismatch(createMismatchEvent(subject, ELSE, elseSchemaFailure));
+            }
+            owner.failureWithCauses("else", "conditional.else", Arrays.asList(ifSchemaFailure, elseSchemaFailure));
+        } else if (owner.isListening()) {
+            owner.validationListener.elseSchemaMatch(createMatchEvent(subject, ELSE));
+        }
+    }
+
+    private ConditionalSchemaMatchEvent createMatchEvent(Object subject, ConditionalSchemaValidationEvent.Keyword keyword) {
+        return new ConditionalSchemaMatchEvent(conditionalSchema, subject, keyword);
+    }
+
+    private ConditionalSchemaMismatchEvent createMismatchEvent(Object subject, ConditionalSchemaValidationEvent.Keyword keyword,
+            ValidationFailure failure) {
+        return new ConditionalSchemaMismatchEvent(conditionalSchema, subject, keyword, failure.toException());
+    }
+
+}
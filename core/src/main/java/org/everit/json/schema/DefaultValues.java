@@ -0,0 +1,115 @@
+package org.everit.json.schema;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.everit.json.schema.regexp.Regexp;
+
+/**
+ * Finds the property schemas with default values reachable from a schema. Validating against such a schema may inject
+ * the default values into the subject, so it has to be validated against all of its subschemas, even if the result is
+ * known without some of them.
+ */
+final class DefaultValues extends Visitor {
+
+    /**
+     * Checks if validating a subject against {@code schema} may inject default values into it.
+     */
+    static boolean mayBeInjectedBy(Schema schema) {
+        DefaultValues visitor = new DefaultValues(Collections.newSetFromMap(new IdentityHashMap<>()));
+        visitor.find(schema);
+        return visitor.found;
+    }
+
+    /**
+     * The schemas already visited, so that recursive schemas are visited only once.
+     */
+    private final Set<Schema> visited;
+
+    private boolean found;
+
+    private DefaultValues(Set<Schema> visited) {
+        this.visited = visited;
+    }
+
+    private void find(Schema schema) {
+        if (!found && schema != null && visited.add(schema)) {
+            visit(schema);
+        }
+    }
+
+    @Override
+    void visitPropertySchema(String propertyName, Schema schema) {
+        found |= schema.hasDefaultValue();
+        find(schema);
+    }
+
+    @Override
+    void visitSchemaDependency(String propKey, Schema schema) {
+        find(schema);
+    }
+
+    @Override
+    void visitPatternPropertySchema(Regexp propertyNamePattern, Schema schema) {
+        find(schema);
+    }
+
+    @Override
+    void visitSchemaOfAdditionalProperties(Schema schemaOfAdditionalProperties) {
+        find(schemaOfAdditionalProperties);
+    }
+
+    @Override
+    void visitAllItemSchema(Schema allItemSchema) {
+        find(allItemSchema);
+    }
+
+    @Override
+    void visitItemSchema(int index, Schema itemSchema) {
+        find(itemSchema);
+    }
+
+    @Override
+    void visitSchemaOfAdditionalItems(Schema schemaOfAdditionalItems) {
+        find(schemaOfAdditionalItems);
+    }
+
+    @Override
+    void visitContainedItemSchema(Schema containedItemSchema) {
+        find(containedItemSchema);
+    }
+
+    @Override
+    void visitNotSchema(NotSchema notSchema) {
+        find(notSchema.getMustNotMatch());
+    }
+
+    @Override
+    void visitReferenceSchema(ReferenceSchema referenceSchema) {
+        find(referenceSchema.getReferredSchema());
+    }
+
+    @Override
+    void visitCombinedSchema(CombinedSchema combinedSchema) {
+        for (Schema subschema : combinedSchema.getSubschemas()) {
+            find(subschema);
+        }
+    }
+
+    @Override
+    void visitIfSchema(Schema ifSchema) {
+        find(ifSchema);
+    }
+
+    @Override
+    void visitThenSchema(Schema thenSchema) {
+        find(thenSchema);
+    }
+
+    @Override
+    void visitElseSchema(Schema elseSchema) {
+        find(elseSchema);
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.everit.json.schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONObject;
+
+/**
+ * Index of the subschemas of a {@code oneOf} / {@code anyOf} schema by the value of a discriminator property.
+ * <p>
+ * If every subschema pins the same property to a string by a {@code const} or a single-value {@code enum}, then a
+ * subschema can only match a JSON object if the value of that property is the pinned one. The index maps each pinned
+ * value to the subschemas pinning it, so the validation only has to check these candidates: all other subschemas are
+ * known to fail.
+ * </p>
+ * <p>
+ * The discriminator property is either the {@code propertyName} of an OpenAPI-style {@code discriminator} (found in
+ * the {@link Schema#getUnprocessedProperties() unprocessed properties} of the combined schema), or otherwise the first
+ * property which is pinned by all subschemas. The discriminator is only used to select the property, the index itself
+ * is always built from the pinned values, so it doesn't change the outcome of the validation.
+ * </p>
+ */
+final class DiscriminatorIndex {
+
+    private static final Schema[] NO_CANDIDATES = new Schema[0];
+
+    /**
+     * Limits how deep the subschemas are unwrapped (through references and {@code allOf} schemas) while looking for
+     * pinned properties.
+     */
+    private static final int MAX_UNWRAP_DEPTH = 8;
+
+    /**
+     * Builds the index of {@code combinedSchema}, or returns {@code null} if its subschemas don't share a pinned
+     * property.
+     */
+    static DiscriminatorIndex of(CombinedSchema combinedSchema) {
+        Collection<Schema> subschemas = combinedSchema.getSubschemas();
+        if (subschemas.size() < 2) {
+            return null;
+        }
+        List<Map<String, String>> pinnedPropertiesOfSubschemas = new ArrayList<>(subschemas.size());
+        for (Schema subschema : subschemas) {
+            Map<String, String> pinnedProperties = new LinkedHashMap<>();
+            collectPinnedProperties(subschema, pinnedProperties, 0);
+            if (pinnedProperties.isEmpty()) {
+                return null;
+            }
+            pinnedPropertiesOfSubschemas.add(pinnedProperties);
+        }
+        String propertyName = findDiscriminatorProperty(combinedSchema, pinnedPropertiesOfSubschemas);
+        if (propertyName == null) {
+            return null;
+        }
+        Map<String, List<Schema>> subschemasByValue = new HashMap<>();
+        int i = 0;
+        for (Schema subschema : subschemas) {
+            String pinnedValue = pinnedPropertiesOfSubschemas.get(i++).get(propertyName);
+            subschemasByValue.computeIfAbsent(pinnedValue, value -> new ArrayList<>(1)).add(subschema);
+        }
+        Map<String, Schema[]> candidatesByValue = new HashMap<>(subschemasByValue.size() * 2);
+        subschemasByValue.forEach((value, candidates) -> candidatesByValue.put(value,
+                candidates.toArray(new Schema[candidates.size()])));
+        return new DiscriminatorIndex(propertyName, candidatesByValue);
+    }
+
+    private static String findDiscriminatorProperty(CombinedSchema combinedSchema,
+            List<Map<String, String>> pinnedPropertiesOfSubschemas) {
+        Object discriminator = combinedSchema.getUnprocessedProperties().get("discriminator");
+        if (discriminator instanceof Map) {
+            Object propertyName = ((Map<?, ?>) discriminator).get("propertyName");
+            if (propertyName instanceof String && isPinnedByAll((String) propertyName, pinnedPropertiesOfSubschemas)) {
+                return (String) propertyName;
+            }
+            return null;
+        }
+        for (String propertyName : pinnedPropertiesOfSubschemas.get(0).keySet()) {
+            if (isPinnedByAll(propertyName, pinnedPropertiesOfSubschemas)) {
+                return propertyName;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPinnedByAll(String propertyName, List<Map<String, String>> pinnedPropertiesOfSubschemas) {
+        for (Map<String, String> pinnedProperties : pinnedPropertiesOfSubschemas) {
+            if (!pinnedProperties.containsKey(propertyName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collectPinnedProperties(Schema schema, Map<String, String> pinnedProperties, int depth) {
+        if (depth > MAX_UNWRAP_DEPTH) {
+            return;
+        }
+        if (schema instanceof ReferenceSchema) {
+            Schema referredSchema = ((ReferenceSchema) schema).getReferredSchema();
+            if (referredSchema != null) {
+                collectPinnedProperties(referredSchema, pinnedProperties, depth + 1);
+            }
+        } else if (isAllOf(schema)) {
+            for (Schema subschema : ((CombinedSchema) schema).getSubschemas()) {
+                collectPinnedProperties(subschema, pinnedProperties, depth + 1);
+            }
+        } else if (schema instanceof ObjectSchema) {
+            ((ObjectSchema) schema).getPropertySchemas().forEach((propertyName, propertySchema) -> {
+                String pinnedValue = pinnedValue(propertySchema, depth + 1);
+                if (pinnedValue != null) {
+                    pinnedProperties.putIfAbsent(propertyName, pinnedValue);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the only string value {@code schema} accepts, or {@code null} if there isn't such value.
+     */
+    private static String pinnedValue(Schema schema, int depth) {
+        if (depth > MAX_UNWRAP_DEPTH) {
+            return null;
+        }
+        if (schema instanceof ConstSchema) {
+            Object permittedValue = ((ConstSchema) schema).getPermittedValue();
+            return permittedValue instanceof String ? (String) permittedValue : null;
+        } else if (schema instanceof EnumSchema) {
+            List<Object> possibleValues = ((EnumSchema) schema).getPossibleValuesAsList();
+            if (possibleValues.size() == 1 && possibleValues.get(0) instanceof String) {
+                return (String) possibleValues.get(0);
+            }
+        } else if (schema instanceof ReferenceSchema) {
+            Schema referredSchema = ((ReferenceSchema) schema).getReferredSchema();
+            return referredSchema == null ? null : pinnedValue(referredSchema, depth + 1);
+        } else if (isAllOf(schema)) {
+            for (Schema subschema : ((CombinedSchema) schema).getSubschemas()) {
+                String pinnedValue = pinnedValue(subschema, depth + 1);
+                if (pinnedValue != null) {
+                    return pinnedValue;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAllOf(Schema schema) {
+        return schema instanceof CombinedSchema && ((CombinedSchema) schema).getCriterion() == CombinedSchema.ALL_CRITERION;
+    }
+
+    private final String propertyName;
+
+    private final Map<String, Schema[]> candidatesByValue;
+
+    private DiscriminatorIndex(String propertyName, Map<String, Schema[]> candidatesByValue) {
+        this.propertyName = propertyName;
+        this.candidatesByValue = candidatesByValue;
+    }
+
+    /**
+     * Returns the subschemas which may match {@code subject}, or {@code null} if the index can't be used for
+     * {@code subject}, because it isn't a JSON object with a string discriminator property.
+     */
+    Schema[] candidates(Object subject) {
+        if (!(subject instanceof JSONObject)) {
+            return null;
+        }
+        Object value = ((JSONObject) subject).opt(propertyName);
+        if (!(value instanceof String)) {
+            return null;
+        }
+        Schema[] candidates = candidatesByValue.get(value);
+        return candidates == null ? NO_CANDIDATES : candidates;
+    }
+
+}
@@ -1,24 +1,61 @@
 package org.everit.json.schema;
 
+import org.everit.json.schema.i18n.MessageCatalog;
+
 class EarlyFailingFailureReporter extends ValidationFailureReporter {
 
+    /**
+     * Stackless signal carrying the first failure found in the context of a subschema.
+     */
+    private static final class FailureSignal extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ValidationFailure failure;
+
+        private FailureSignal(ValidationFailure failure) {
+            super(null, null, false, false);
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * The number of subschema contexts the validation is currently in. Failures found outside of any subschema
+     * context are the result of the validation, so these are turned into {@link ValidationException}s.
+     */
+    private int subschemaDepth = 0;
+
     public EarlyFailingFailureReporter(Schema schema) {
         super(schema);
     }
 
-    @Override public void failure(ValidationException exc) {
-        throw exc;
+    EarlyFailingFailureReporter(Schema schema, MessageCatalog messageCatalog) {
+        super(schema, messageCatalog);
+    }
+
+    @Override void failure(ValidationFailure failure) {
+        if (subschemaDepth == 0) {
+            throw failure.toException();
+        }
+        throw new FailureSignal(failure);
+    }
+
+    @Override boolean isFailingEarly() {
+        return true;
     }
 
     @Override public void validationFinished() {
 
     }
 
-    @Override ValidationException inContextOfSchema(Schema schema, Runnable task) {
+    @Override ValidationFailure failureOfSchema(Schema schema, Runnable task) {
+        ++subschemaDepth;
         try {
-            return super.inContextOfSchema(schema, task);
-        } catch (ValidationException e) {
-            return e;
+            return super.failureOfSchema(schema, task);
+        } catch (FailureSignal e) {
+            return e.failure;
+        } finally {
+            --subschemaDepth;
         }
     }
 }
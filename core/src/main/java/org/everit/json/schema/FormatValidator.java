@@ -2,8 +2,11 @@ package org.everit.json.schema;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.everit.json.schema.internal.DateTimeFormatValidator;
 import org.everit.json.schema.internal.EmailFormatValidator;
 import org.everit.json.schema.internal.HostnameFormatValidator;
@@ -72,6 +75,83 @@ public interface FormatValidator {
      */
     Optional<String> validate(String subject);
 
+    /**
+     * Checks if {@code subject} conforms to this format, without creating a failure message.
+     * <p>
+     * The default implementation adapts {@link #validate(String)}. Implementations which can check a
+     * {@code CharSequence} without turning it into a {@code String}, or without formatting the failure message,
+     * should override this method together with {@link #failureMessage(CharSequence)}.
+     * </p>
+     *
+     * @param subject
+     *         the character sequence to be validated
+     * @return {@code true} if {@code subject} is valid
+     */
+    default boolean isValid(CharSequence subject) {
+        return !validate(subject == null ? null : subject.toString()).isPresent();
+    }
+
+    /**
+     * Creates the failure message of a {@code subject} which is not {@link #isValid(CharSequence) valid}. The
+     * validation calls this method only when the message is actually needed, i.e. when the failure is turned into a
+     * {@link ValidationException}.
+     * <p>
+     * The default implementation adapts {@link #validate(String)}.
+     * </p>
+     *
+     * @param subject
+     *         the invalid character sequence
+     * @return the failure message
+     */
+    default String failureMessage(CharSequence subject) {
+        return validate(subject == null ? null : subject.toString())
+                .orElseThrow(() -> new IllegalArgumentException(String.format("[%s] is a valid %s", subject,
+                        formatName())));
+    }
+
+    /**
+     * Creates the failure message of a {@code subject} which is not {@link #isValid(CharSequence) valid}, looking up
+     * the message template in {@code catalog}. The validation calls this method with the
+     * {@link Validator.ValidatorBuilder#messageCatalog(MessageCatalog) message catalog of the validator}.
+     * <p>
+     * The default implementation ignores {@code catalog} and calls {@link #failureMessage(CharSequence)}.
+     * </p>
+     *
+     * @param subject
+     *         the invalid character sequence
+     * @param catalog
+     *         the message catalog of the validation
+     * @return the failure message
+     */
+    default String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        return failureMessage(subject);
+    }
+
+    /**
+     * Checks many values of this format at once.
+     * <p>
+     * The default implementation calls {@link #isValid(CharSequence)} for each element of {@code subjects}.
+     * Implementations can override it to amortize the per-value overhead over the batch. The failure messages of the
+     * invalid values can be obtained by {@link #failureMessage(CharSequence)}.
+     * </p>
+     *
+     * @param subjects
+     *         the character sequences to be validated
+     * @return the indexes of the invalid elements of {@code subjects}
+     */
+    default BitSet validateAll(List<? extends CharSequence> subjects) {
+        requireNonNull(subjects, "subjects cannot be null");
+        BitSet invalid = new BitSet(subjects.size());
+        int index = 0;
+        for (CharSequence subject : subjects) {
+            if (!isValid(subject)) {
+                invalid.set(index);
+            }
+            ++index;
+        }
+        return invalid;
+    }
+
     /**
      * Provides the name of this format.
      * <p>
@@ -9,7 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -250,7 +250,7 @@ public class JSONPointer {
             } else if (current instanceof JSONArray) {
                 current = readByIndexToken(current, token);
             } else {
-                throw new JSONPointerException(format(ResourceBundleThreadLocal.get().getString("json.query-form"), current, token));
+                throw new JSONPointerException(MessageCatalog.DEFAULT.format("json.query-form", current, token));
             }
         }
         return current;
@@ -272,7 +272,7 @@ public class JSONPointer {
             int index = Integer.parseInt(indexToken);
             JSONArray currentArr = (JSONArray) current;
             if (index >= currentArr.length()) {
-                throw new JSONPointerException(format(ResourceBundleThreadLocal.get().getString("json.read-by-index-token"), indexToken,
+                throw new JSONPointerException(MessageCatalog.DEFAULT.format("json.read-by-index-token", indexToken,
                         Integer.valueOf(currentArr.length())));
             }
             try {
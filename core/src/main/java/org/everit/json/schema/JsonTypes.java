@@ -0,0 +1,206 @@
+package org.everit.json.schema;
+
+import static org.everit.json.schema.ValidatingVisitor.isNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Computes the set of JSON types a {@link Schema} can possibly accept.
+ * <p>
+ * Type sets are represented as bit masks of the {@code NULL}, {@code BOOLEAN}, ... constants. The computed set is an
+ * over-approximation: if the type of a subject is not in the set, then the schema fails for sure, but a schema may
+ * still fail for subjects of an accepted type.
+ * </p>
+ */
+final class JsonTypes extends Visitor {
+
+    static final int NULL = 1;
+
+    static final int BOOLEAN = 1 << 1;
+
+    static final int NUMBER = 1 << 2;
+
+    static final int STRING = 1 << 3;
+
+    static final int OBJECT = 1 << 4;
+
+    static final int ARRAY = 1 << 5;
+
+    static final int ALL = NULL | BOOLEAN | NUMBER | STRING | OBJECT | ARRAY;
+
+    /**
+     * The number of distinct JSON types, therefore the number of different values {@link #typeIndexOf(Object)} may
+     * return (besides {@code -1}).
+     */
+    static final int TYPE_COUNT = 6;
+
+    /**
+     * Returns the index (the position of the bit) of the JSON type of the validated {@code subject}, or {@code -1} if
+     * it isn't an instance of any of the types validated by the schemas.
+     */
+    static int typeIndexOf(Object subject) {
+        if (isNull(subject)) {
+            return 0;
+        } else if (subject instanceof Boolean) {
+            return 1;
+        } else if (subject instanceof Number) {
+            return 2;
+        } else if (subject instanceof String) {
+            return 3;
+        } else if (subject instanceof JSONObject) {
+            return 4;
+        } else if (subject instanceof JSONArray) {
+            return 5;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the JSON type of a value found in a schema, as converted by {@link EnumSchema#toJavaValue(Object)}.
+     */
+    private static int typeOfValue(Object value) {
+        if (isNull(value)) {
+            return NULL;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Number) {
+            return NUMBER;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Map || value instanceof JSONObject) {
+            return OBJECT;
+        } else if (value instanceof List || value instanceof JSONArray) {
+            return ARRAY;
+        }
+        return ALL;
+    }
+
+    /**
+     * Returns the set of JSON types {@code schema} can possibly accept.
+     */
+    static int acceptedBy(Schema schema) {
+        return new JsonTypes(Collections.newSetFromMap(new IdentityHashMap<>())).acceptedTypesOf(schema);
+    }
+
+    /**
+     * The schemas whose accepted types are being computed. A schema is only found here again if it is recursive, in
+     * which case it is assumed to accept anything.
+     */
+    private final Set<Schema> inProgress;
+
+    private int accepted = ALL;
+
+    private JsonTypes(Set<Schema> inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    private int acceptedTypesOf(Schema schema) {
+        if (!inProgress.add(schema)) {
+            return ALL;
+        }
+        try {
+            JsonTypes visitor = new JsonTypes(inProgress);
+            visitor.visit(schema);
+            int accepted = visitor.accepted;
+            if (schema.isNullable() == Boolean.FALSE) {
+                accepted &= ~NULL;
+            }
+            return accepted;
+        } finally {
+            inProgress.remove(schema);
+        }
+    }
+
+    private void typeChecked(int type, boolean requiresType, Boolean nullable) {
+        if (requiresType) {
+            accepted = nullable == Boolean.TRUE ? type | NULL : type;
+        }
+    }
+
+    @Override
+    void visitNumberSchema(NumberSchema numberSchema) {
+        typeChecked(NUMBER, numberSchema.isRequiresNumber(), numberSchema.isNullable());
+    }
+
+    @Override
+    void visitStringSchema(StringSchema stringSchema) {
+        typeChecked(STRING, stringSchema.requireString(), stringSchema.isNullable());
+    }
+
+    @Override
+    void visitObjectSchema(ObjectSchema objectSchema) {
+        typeChecked(OBJECT, objectSchema.requiresObject(), objectSchema.isNullable());
+    }
+
+    @Override
+    void visitArraySchema(ArraySchema arraySchema) {
+        typeChecked(ARRAY, arraySchema.requiresArray(), arraySchema.isNullable());
+    }
+
+    @Override
+    void visitBooleanSchema(BooleanSchema schema) {
+        accepted = BOOLEAN;
+    }
+
+    @Override
+    void visitNullSchema(NullSchema nullSchema) {
+        accepted = NULL;
+    }
+
+    @Override
+    void visitFalseSchema(FalseSchema falseSchema) {
+        accepted = 0;
+    }
+
+    @Override
+    void visitConstSchema(ConstSchema constSchema) {
+        accepted = typeOfValue(constSchema.getPermittedValue());
+    }
+
+    @Override
+    void visitEnumSchema(EnumSchema enumSchema) {
+        accepted = 0;
+        for (Object possibleValue : enumSchema.getPossibleValuesAsList()) {
+            accepted |= typeOfValue(possibleValue);
+        }
+    }
+
+    @Override
+    void visitReferenceSchema(ReferenceSchema referenceSchema) {
+        Schema referredSchema = referenceSchema.getReferredSchema();
+        if (referredSchema != null) {
+            accepted = acceptedTypesOf(referredSchema);
+        }
+    }
+
+    @Override
+    void visitCombinedSchema(CombinedSchema combinedSchema) {
+        CombinedSchema.ValidationCriterion criterion = combinedSchema.getCriterion();
+        if (criterion == CombinedSchema.ALL_CRITERION) {
+            for (Schema subschema : combinedSchema.getSubschemas()) {
+                accepted &= acceptedTypesOf(subschema);
+            }
+        } else if (criterion == CombinedSchema.ANY_CRITERION || criterion == CombinedSchema.ONE_CRITERION) {
+            accepted = 0;
+            for (Schema subschema : combinedSchema.getSubschemas()) {
+                accepted |= acceptedTypesOf(subschema);
+            }
+        }
+    }
+
+    @Override
+    void visitConditionalSchema(ConditionalSchema conditionalSchema) {
+    }
+
+    @Override
+    void visitNotSchema(NotSchema notSchema) {
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.everit.json.schema;
+
+import java.util.Collection;
+
+/**
+ * Hash set of JSON values, using {@link JsonValues#equal(Object, Object) structural equality}.
+ * <p>
+ * The set is an open-addressing hash table of the values and their (precomputed) {@link JsonValues#hash(Object)
+ * structural hashes}, so a lookup hashes the looked up value once, and compares it deeply only to the values with
+ * the same hash. Looked up values are neither copied nor converted.
+ * </p>
+ * <p>
+ * The capacity of the set is fixed when it is created, so it can't hold more than {@code expectedSize} values.
+ * </p>
+ */
+final class JsonValueSet {
+
+    private final Object[] values;
+
+    private final int[] hashes;
+
+    private final boolean[] occupied;
+
+    private final int mask;
+
+    JsonValueSet(Collection<?> values) {
+        this(values.size());
+        for (Object value : values) {
+            add(value);
+        }
+    }
+
+    JsonValueSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1;
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.occupied = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Adds {@code value} to the set.
+     *
+     * @return {@code false} if an equal value was already in the set
+     */
+    boolean add(Object value) {
+        int hash = JsonValues.hash(value);
+        int index = spread(hash) & mask;
+        while (occupied[index]) {
+            if (hashes[index] == hash && JsonValues.equal(values[index], value)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        occupied[index] = true;
+        hashes[index] = hash;
+        values[index] = value;
+        return true;
+    }
+
+    boolean contains(Object value) {
+        int hash = JsonValues.hash(value);
+        int index = spread(hash) & mask;
+        while (occupied[index]) {
+            if (hashes[index] == hash && JsonValues.equal(values[index], value)) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,231 @@
+package org.everit.json.schema;
+
+import static org.everit.json.schema.ValidatingVisitor.isNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Structural equality and hashing of JSON values.
+ * <p>
+ * JSON objects may be represented either as {@link JSONObject} or as {@link Map}, and arrays either as
+ * {@link JSONArray} or as {@link List}, so values converted by {@link EnumSchema#toJavaValue(Object)} can be compared
+ * to validated subjects without converting the subjects. Numbers are compared by their mathematical value, so
+ * {@code 1}, {@code 1.0} and {@code BigDecimal("1.00")} are all equal, and they have the same {@link #hash(Object)}.
+ * {@code null} and {@link JSONObject#NULL} are equal.
+ * </p>
+ */
+final class JsonValues {
+
+    private static final double LONG_RANGE = 0x1p63;
+
+    static boolean equal(Object value1, Object value2) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (isNull(value1) || isNull(value2)) {
+            return isNull(value1) && isNull(value2);
+        }
+        if (value1 instanceof String || value1 instanceof Boolean) {
+            return value1.equals(value2);
+        } else if (value1 instanceof Number) {
+            return value2 instanceof Number && numbersEqual((Number) value1, (Number) value2);
+        } else if (value1 instanceof JSONObject || value1 instanceof Map) {
+            return objectsEqual(value1, value2);
+        } else if (value1 instanceof JSONArray || value1 instanceof List) {
+            return arraysEqual(value1, value2);
+        }
+        return value1.equals(value2);
+    }
+
+    /**
+     * Returns a hash code of {@code value}, which is consistent with {@link #equal(Object, Object)}.
+     */
+    static int hash(Object value) {
+        if (value instanceof String) {
+            return value.hashCode();
+        } else if (isNull(value)) {
+            return 0;
+        } else if (value instanceof Number) {
+            return numberHash((Number) value);
+        } else if (value instanceof JSONObject) {
+            JSONObject obj = (JSONObject) value;
+            int hash = 0;
+            Iterator<String> keys = obj.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                hash += key.hashCode() ^ hash(obj.opt(key));
+            }
+            return hash;
+        } else if (value instanceof Map) {
+            int hash = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                hash += entry.getKey().hashCode() ^ hash(entry.getValue());
+            }
+            return hash;
+        } else if (value instanceof JSONArray) {
+            JSONArray arr = (JSONArray) value;
+            int hash = 1;
+            for (int i = 0, length = arr.length(); i < length; ++i) {
+                hash = 31 * hash + hash(arr.opt(i));
+            }
+            return hash;
+        } else if (value instanceof List) {
+            int hash = 1;
+            for (Object item : (List<?>) value) {
+                hash = 31 * hash + hash(item);
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isFloating(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    static boolean numbersEqual(Number number1, Number number2) {
+        if (isIntegral(number1) && isIntegral(number2)) {
+            return number1.longValue() == number2.longValue();
+        } else if (isFloating(number1) && isFloating(number2)) {
+            return number1.doubleValue() == number2.doubleValue();
+        } else if (isIntegral(number1) && isFloating(number2)) {
+            return integralEqualsFloating(number1.longValue(), number2.doubleValue());
+        } else if (isFloating(number1) && isIntegral(number2)) {
+            return integralEqualsFloating(number2.longValue(), number1.doubleValue());
+        }
+        BigDecimal decimal1 = toBigDecimal(number1);
+        BigDecimal decimal2 = toBigDecimal(number2);
+        if (decimal1 == null || decimal2 == null) {
+            return number1.doubleValue() == number2.doubleValue();
+        }
+        return decimal1.compareTo(decimal2) == 0;
+    }
+
+    private static boolean integralEqualsFloating(long integral, double floating) {
+        return floating == Math.rint(floating) && Math.abs(floating) <= LONG_RANGE && floating != LONG_RANGE
+                && (long) floating == integral;
+    }
+
+    static int numberHash(Number number) {
+        if (isIntegral(number)) {
+            return Long.hashCode(number.longValue());
+        }
+        if (isFloating(number)) {
+            double value = number.doubleValue();
+            if (value == Math.rint(value) && Math.abs(value) < LONG_RANGE) {
+                return Long.hashCode((long) value);
+            }
+        }
+        BigDecimal decimal = toBigDecimal(number);
+        if (decimal == null) {
+            return Double.hashCode(number.doubleValue());
+        }
+        if (decimal.signum() == 0) {
+            return 0;
+        }
+        BigDecimal stripped = decimal.stripTrailingZeros();
+        if (stripped.scale() <= 0 && stripped.toBigInteger().bitLength() < Long.SIZE) {
+            return Long.hashCode(stripped.longValue());
+        }
+        return stripped.hashCode();
+    }
+
+    /**
+     * Returns the exact decimal representation of {@code number}, or {@code null} if it is not finite.
+     */
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        // a Float is widened to double, like in the floating point comparisons of numbersEqual()
+        double value = number.doubleValue();
+        return Double.isFinite(value) ? BigDecimal.valueOf(value) : null;
+    }
+
+    private static boolean objectsEqual(Object obj1, Object obj2) {
+        if (!(obj2 instanceof JSONObject || obj2 instanceof Map) || sizeOf(obj1) != sizeOf(obj2)) {
+            return false;
+        }
+        if (obj1 instanceof JSONObject) {
+            JSONObject jsonObj1 = (JSONObject) obj1;
+            Iterator<String> keys = jsonObj1.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (!propertyEquals(obj2, key, jsonObj1.opt(key))) {
+                    return false;
+                }
+            }
+        } else {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) obj1).entrySet()) {
+                if (!propertyEquals(obj2, (String) entry.getKey(), entry.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if {@code obj} has a property named {@code key} with a value equal to {@code expectedValue}. Both
+     * {@code JSONObject} and {@code Map} are looked up only once, unless a {@code Map} holds a {@code null} value.
+     */
+    private static boolean propertyEquals(Object obj, String key, Object expectedValue) {
+        if (obj instanceof JSONObject) {
+            Object actualValue = ((JSONObject) obj).opt(key);
+            return actualValue != null && equal(expectedValue, actualValue);
+        }
+        Map<?, ?> map = (Map<?, ?>) obj;
+        Object actualValue = map.get(key);
+        if (actualValue == null && !map.containsKey(key)) {
+            return false;
+        }
+        return equal(expectedValue, actualValue);
+    }
+
+    private static int sizeOf(Object obj) {
+        return obj instanceof JSONObject ? ((JSONObject) obj).length() : ((Map<?, ?>) obj).size();
+    }
+
+    private static boolean arraysEqual(Object arr1, Object arr2) {
+        if (!(arr2 instanceof JSONArray || arr2 instanceof List)) {
+            return false;
+        }
+        int length = lengthOf(arr1);
+        if (length != lengthOf(arr2)) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (!equal(item(arr1, i), item(arr2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lengthOf(Object arr) {
+        return arr instanceof JSONArray ? ((JSONArray) arr).length() : ((List<?>) arr).size();
+    }
+
+    private static Object item(Object arr, int index) {
+        return arr instanceof JSONArray ? ((JSONArray) arr).opt(index) : ((List<?>) arr).get(index);
+    }
+
+    private JsonValues() {
+    }
+
+}
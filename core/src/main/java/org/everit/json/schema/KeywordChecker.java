@@ -0,0 +1,60 @@
+package org.everit.json.schema;
+
+import java.util.List;
+
+/**
+ * A single, pre-compiled validation step of a {@link CompiledSchema}.
+ * <p>
+ * Checkers are created once by the {@link SchemaCompiler} and only hold the (immutable) keyword values of the schema
+ * they belong to, therefore they can be shared between threads. Everything that belongs to a single validation run
+ * (the failure reporter, the listener etc.) is passed in by the {@code owner}.
+ * </p>
+ *
+ * @param <T>
+ *         the type of the subject this checker can validate
+ */
+@FunctionalInterface
+interface KeywordChecker<T> {
+
+    static <T> KeywordChecker<T> none() {
+        return (subject, owner) -> {
+        };
+    }
+
+    /**
+     * Creates a checker running each of the {@code checkers} in order. Empty and single-element lists don't get
+     * wrapped.
+     */
+    static <T> KeywordChecker<T> sequence(List<KeywordChecker<T>> checkers) {
+        switch (checkers.size()) {
+        case 0:
+            return none();
+        case 1:
+            return checkers.get(0);
+        default:
+            @SuppressWarnings("unchecked")
+            KeywordChecker<T>[] steps = checkers.toArray(new KeywordChecker[checkers.size()]);
+            return (subject, owner) -> {
+                for (KeywordChecker<T> step : steps) {
+                    step.check(subject, owner);
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates a checker which runs {@code checker} only if the subject is an instance of {@code expectedType}. If it
+     * isn't, then a type failure is reported if {@code requiresType} is {@code true}.
+     */
+    static <T> KeywordChecker<Object> typeChecked(Class<T> expectedType, boolean requiresType, Boolean nullable,
+            KeywordChecker<T> checker) {
+        return (subject, owner) -> {
+            if (owner.passesTypeCheck(expectedType, requiresType, nullable)) {
+                checker.check(expectedType.cast(subject), owner);
+            }
+        };
+    }
+
+    void check(T subject, ValidatingVisitor owner);
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class NumberSchemaCompiler extends Visitor {
+
+    private static final double LONG_RANGE = 0x1p63;
+
+    /**
+     * The integral doubles below this magnitude are exactly represented by {@link BigDecimal#valueOf(double)}.
+     */
+    private static final double EXACT_INTEGRAL_DOUBLE_RANGE = 0x1p52;
+
+    static KeywordChecker<Object> compile(NumberSchema numberSchema) {
+        NumberSchemaCompiler compiler = new NumberSchemaCompiler();
+        numberSchema.accept(compiler);
+        KeywordChecker<Number> keywordChecker = KeywordChecker.sequence(compiler.checkers);
+        if (numberSchema.requiresInteger()) {
+            keywordChecker = requiringInteger(keywordChecker);
+        }
+        return KeywordChecker.typeChecked(Number.class, numberSchema.isRequiresNumber(), numberSchema.isNullable(),
+                keywordChecker);
+    }
+
+    private static boolean isIntegralType(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == BigInteger.class || type == AtomicInteger.class
+                || type == AtomicLong.class;
+    }
+
+    private static KeywordChecker<Number> requiringInteger(KeywordChecker<Number> keywordChecker) {
+        return (numberSubject, owner) -> {
+            if (!isIntegralType(numberSubject.getClass())) {
+                owner.failure(Integer.class, numberSubject);
+            } else {
+                keywordChecker.check(numberSubject, owner);
+            }
+        };
+    }
+
+    private static boolean isLong(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+                || number instanceof AtomicInteger || number instanceof AtomicLong;
+    }
+
+    private static boolean isDouble(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    /**
+     * A limit of {@code minimum}, {@code maximum}, {@code exclusiveMinimum} or {@code exclusiveMaximum}, normalized
+     * once, so subjects of primitive wrapper types can be compared to it without converting them to
+     * {@link BigDecimal}.
+     */
+    private static final class Limit {
+
+        private final boolean isLong;
+
+        private final long longValue;
+
+        private final boolean isDouble;
+
+        private final double doubleValue;
+
+        private final BigDecimal decimalValue;
+
+        private Limit(Number limit) {
+            this.isLong = isLong(limit);
+            this.longValue = limit.longValue();
+            this.isDouble = isDouble(limit);
+            this.doubleValue = limit.doubleValue();
+            this.decimalValue = toBigDecimal(limit);
+        }
+
+        /**
+         * Compares {@code subject} to the limit, returning a negative number, zero or a positive number if the subject
+         * is less than, equal to or greater than the limit.
+         */
+        int compareSubject(Number subject) {
+            if (isLong(subject)) {
+                if (isLong) {
+                    return Long.compare(subject.longValue(), longValue);
+                } else if (isDouble) {
+                    return compareLongToDouble(subject.longValue(), doubleValue);
+                }
+            } else if (isDouble(subject)) {
+                if (isDouble) {
+                    return Double.compare(subject.doubleValue() + 0.0, doubleValue + 0.0);
+                } else if (isLong) {
+                    return -compareLongToDouble(longValue, subject.doubleValue());
+                }
+            }
+            return toBigDecimal(subject).compareTo(decimalValue);
+        }
+    }
+
+    /**
+     * Compares {@code l} and {@code d} by their exact mathematical values.
+     */
+    private static int compareLongToDouble(long l, double d) {
+        if (d >= LONG_RANGE) {
+            return -1;
+        } else if (d < -LONG_RANGE) {
+            return 1;
+        }
+        long truncated = (long) d;
+        if (l != truncated) {
+            return Long.compare(l, truncated);
+        }
+        double fraction = d - truncated;
+        return fraction > 0 ? -1 : (fraction < 0 ? 1 : 0);
+    }
+
+    private final List<KeywordChecker<Number>> checkers = new ArrayList<>();
+
+    private boolean exclusiveMinimum;
+
+    private boolean exclusiveMaximum;
+
+    private NumberSchemaCompiler() {
+    }
+
+    @Override void visitExclusiveMinimum(boolean exclusiveMinimum) {
+        this.exclusiveMinimum = exclusiveMinimum;
+    }
+
+    @Override void visitMinimum(Number minimum) {
+        if (minimum == null) {
+            return;
+        }
+        Limit limit = new Limit(minimum);
+        if (exclusiveMinimum) {
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) <= 0) {
+                    owner.keywordFailure("exclusiveMinimum", "number.exclusiveMinimum.x_ngt_y", numberSubject, minimum);
+                }
+            });
+        } else {
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) < 0) {
+                    owner.keywordFailure("minimum", "number.minimum.x_ngte_y", numberSubject, minimum);
+                }
+            });
+        }
+    }
+
+    @Override void visitExclusiveMinimumLimit(Number exclusiveMinimumLimit) {
+        if (exclusiveMinimumLimit != null) {
+            Limit limit = new Limit(exclusiveMinimumLimit);
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) <= 0) {
+                    owner.keywordFailure("exclusiveMinimum", "number.exclusiveMinimum.x_ngt_y", numberSubject, exclusiveMinimumLimit);
+                }
+            });
+        }
+    }
+
+    @Override void visitMaximum(Number maximum) {
+        if (maximum == null) {
+            return;
+        }
+        Limit limit = new Limit(maximum);
+        if (exclusiveMaximum) {
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) >= 0) {
+                    owner.keywordFailure("exclusiveMaximum", "number.exclusiveMaximum.x_nlt_y", numberSubject, maximum);
+                }
+            });
+        } else {
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) > 0) {
+                    owner.keywordFailure("maximum", "number.maximum.x_nlte_y", numberSubject, maximum);
+                }
+            });
+        }
+    }
+
+    @Override void visitExclusiveMaximum(boolean exclusiveMaximum) {
+        this.exclusiveMaximum = exclusiveMaximum;
+    }
+
+    @Override void visitExclusiveMaximumLimit(Number exclusiveMaximumLimit) {
+        if (exclusiveMaximumLimit != null) {
+            Limit limit = new Limit(exclusiveMaximumLimit);
+            checkers.add((numberSubject, owner) -> {
+                if (limit.compareSubject(numberSubject) >= 0) {
+                    owner.keywordFailure("exclusiveMaximum", "number.exclusiveMaximum.nlt_y", exclusiveMaximumLimit);
+                }
+            });
+        }
+    }
+
+    @Override void visitMultipleOf(Number multipleOf) {
+        if (multipleOf != null) {
+            BigDecimal divisor = BigDecimal.valueOf(multipleOf.doubleValue());
+            double doubleDivisor = multipleOf.doubleValue();
+            long longDivisor = isExactIntegralDouble(doubleDivisor) ? (long) doubleDivisor : 0;
+            checkers.add((numberSubject, owner) -> {
+                boolean isMultiple;
+                if (longDivisor != 0 && (numberSubject instanceof Integer || numberSubject instanceof Long)) {
+                    isMultiple = numberSubject.longValue() % longDivisor == 0;
+                } else if (longDivisor != 0 && numberSubject instanceof Double
+                        && isExactIntegralDouble(numberSubject.doubleValue())) {
+                    isMultiple = (long) numberSubject.doubleValue() % longDivisor == 0;
+                } else {
+                    BigDecimal remainder = remainderOf(numberSubject, divisor);
+                    isMultiple = remainder == null || remainder.compareTo(BigDecimal.ZERO) == 0;
+                }
+                if (!isMultiple) {
+                    owner.keywordFailure("multipleOf", "number.multipleOf", numberSubject, multipleOf);
+                }
+            });
+        }
+    }
+
+    private static boolean isExactIntegralDouble(double value) {
+        return value == Math.rint(value) && Math.abs(value) < EXACT_INTEGRAL_DOUBLE_RANGE;
+    }
+
+    private static BigDecimal remainderOf(Number numberSubject, BigDecimal divisor) {
+        if (numberSubject instanceof BigDecimal) {
+            return ((BigDecimal) numberSubject).remainder(divisor);
+        }
+        if (numberSubject instanceof BigInteger) {
+            return new BigDecimal((BigInteger) numberSubject).remainder(divisor);
+        }
+        if (numberSubject instanceof Double) {
+            return BigDecimal.valueOf((Double) numberSubject).remainder(divisor);
+        }
+        if (numberSubject instanceof Long) {
+            return BigDecimal.valueOf((Long) numberSubject).remainder(divisor);
+        }
+        if (numberSubject instanceof Integer) {
+            return BigDecimal.valueOf((Integer) numberSubject).remainder(divisor);
+        }
+        return null;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (isDouble(number)) {
+            return new BigDecimal(number.doubleValue());
+        }
+        if (isLong(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        return new BigDecimal(number.toString());
+    }
+}
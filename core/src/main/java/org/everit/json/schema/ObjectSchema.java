@@ -18,6 +18,7 @@ import java.util.regex.Pattern;
 import org.everit.json.schema.internal.JSONPrinter;
 import org.everit.json.schema.regexp.JavaUtilRegexpFactory;
 import org.everit.json.schema.regexp.Regexp;
+import org.everit.json.schema.regexp.RegexpBudgetExceededException;
 import org.everit.json.schema.regexp.RegexpFactory;
 
 /**
@@ -305,10 +306,14 @@ public class ObjectSchema extends Schema {
         return false;
     }
 
+    /**
+     * Checks if a pattern property matching {@code current} defines {@code remaining}. A pattern exceeding its matching
+     * budget (see {@link org.everit.json.schema.regexp.GuardedRegexpFactory}) is treated as not matching
+     * {@code current}, so {@link #definesProperty(String)} returns a result instead of throwing.
+     */
     private boolean definesPatternProperty(String current, String remaining) {
         for (Map.Entry<Regexp, Schema> entry : patternProperties.entrySet()) {
-            Regexp pattern = entry.getKey();
-            if (!pattern.patternMatchingFailure(current).isPresent()) {
+            if (matches(entry.getKey(), current)) {
                 if (remaining == null || entry.getValue().definesProperty(remaining)) {
                     return true;
                 }
@@ -317,6 +322,14 @@ public class ObjectSchema extends Schema {
         return false;
     }
 
+    private static boolean matches(Regexp pattern, String current) {
+        try {
+            return pattern.matches(current);
+        } catch (RegexpBudgetExceededException e) {
+            return false;
+        }
+    }
+
     private boolean definesSchemaDependencyProperty(String field) {
         if (schemaDependencies.containsKey(field)) {
             return true;
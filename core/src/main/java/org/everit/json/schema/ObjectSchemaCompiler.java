@@ -0,0 +1,305 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.everit.json.schema.regexp.Regexp;
+import org.everit.json.schema.regexp.RegexpBudgetExceededException;
+import org.everit.json.schema.regexp.RegexpSet;
+import org.json.JSONObject;
+
+/**
+ * Compiles the validation of {@link ObjectSchema}s.
+ * <p>
+ * The keywords depending on the names of the properties ({@code properties}, {@code patternProperties},
+ * {@code additionalProperties} and {@code propertyNames}) are checked by a single pass over the keys of the subject.
+ * Each key is looked up once in the table of the declared property names, and routed to its property schema, the
+ * matching pattern property schemas (found by a {@link RegexpSet}), or the additional property checks. The declared
+ * properties found in the subject are recorded in a bitset, so the missing properties with default values are found
+ * without looking them up again.
+ * </p>
+ * <p>
+ * The failures are reported in this order: {@code required}, {@code minProperties}, {@code maxProperties},
+ * {@code dependencies} (property dependencies, then schema dependencies), and then the failures of the single pass, in
+ * the iteration order of the subject's keys. The failures of a key are reported in the order {@code propertyNames},
+ * {@code properties}, {@code patternProperties}, {@code additionalProperties}.
+ * </p>
+ */
+class ObjectSchemaCompiler extends Visitor {
+
+    static KeywordChecker<Object> compile(ObjectSchema objectSchema) {
+        ObjectSchemaCompiler compiler = new ObjectSchemaCompiler(objectSchema);
+        objectSchema.accept(compiler);
+        compiler.addPropertyDispatch();
+        return KeywordChecker.typeChecked(JSONObject.class, objectSchema.requiresObject(), objectSchema.isNullable(),
+                KeywordChecker.sequence(compiler.checkers));
+    }
+
+    private final ObjectSchema schema;
+
+    private final List<KeywordChecker<JSONObject>> checkers = new ArrayList<>();
+
+    /**
+     * The names of the declared properties, in the order of their indexes in {@link #nameIndexes}.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    private final Map<String, Integer> nameIndexes = new HashMap<>();
+
+    private final List<Schema> propertySchemas = new ArrayList<>();
+
+    private final List<Regexp> patterns = new ArrayList<>();
+
+    private final List<Schema> patternSchemas = new ArrayList<>();
+
+    private boolean permitsAdditionalProperties = true;
+
+    private Schema schemaOfAdditionalProperties;
+
+    private Schema propertyNameSchema;
+
+    private ObjectSchemaCompiler(ObjectSchema schema) {
+        this.schema = requireNonNull(schema, "schema cannot be null");
+    }
+
+    @Override void visitRequiredPropertyName(String requiredPropName) {
+        checkers.add((objSubject, owner) -> {
+            if (!objSubject.has(requiredPropName)) {
+                owner.keywordFailure("required", "object.required", requiredPropName);
+            }
+        });
+    }
+
+    @Override void visitPropertyNameSchema(Schema propertyNameSchema) {
+        this.propertyNameSchema = propertyNameSchema;
+    }
+
+    @Override void visitMinProperties(Integer minProperties) {
+        if (minProperties != null) {
+            int min = minProperties.intValue();
+            checkers.add((objSubject, owner) -> {
+                int objectSize = objSubject.length();
+                if (objectSize < min) {
+                    owner.keywordFailure("minProperties", "object.minProperties", minProperties, objectSize);
+                }
+            });
+        }
+    }
+
+    @Override void visitMaxProperties(Integer maxProperties) {
+        if (maxProperties != null) {
+            int max = maxProperties.intValue();
+            checkers.add((objSubject, owner) -> {
+                int objectSize = objSubject.length();
+                if (objectSize > max) {
+                    owner.keywordFailure("maxProperties", "object.maxProperties", maxProperties, objectSize);
+                }
+            });
+        }
+    }
+
+    @Override void visitPropertyDependencies(String ifPresent, Set<String> allMustBePresent) {
+        String[] mustBePresentNames = allMustBePresent.toArray(new String[allMustBePresent.size()]);
+        checkers.add((objSubject, owner) -> {
+            if (objSubject.has(ifPresent)) {
+                for (String mustBePresent : mustBePresentNames) {
+                    if (!objSubject.has(mustBePresent)) {
+                        owner.keywordFailure("dependencies", "object.dependencies", mustBePresent);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override void visitAdditionalProperties(boolean permitsAdditionalProperties) {
+        this.permitsAdditionalProperties = permitsAdditionalProperties;
+    }
+
+    @Override void visitSchemaOfAdditionalProperties(Schema schemaOfAdditionalProperties) {
+        this.schemaOfAdditionalProperties = schemaOfAdditionalProperties;
+    }
+
+    @Override void visitPatternPropertySchema(Regexp propertyNamePattern, Schema schema) {
+        patterns.add(propertyNamePattern);
+        patternSchemas.add(schema);
+    }
+
+    @Override void visitSchemaDependency(String propName, Schema schema) {
+        checkers.add((objSubject, owner) -> {
+            if (objSubject.has(propName)) {
+                ValidationFailure failure = owner.getFailureOfSchema(schema, objSubject);
+                if (failure != null) {
+                    owner.failure(failure);
+                }
+            }
+        });
+    }
+
+    @Override void visitPropertySchema(String properyName, Schema schema) {
+        nameIndexes.put(properyName, names.size());
+        names.add(properyName);
+        propertySchemas.add(schema);
+    }
+
+    private void addPropertyDispatch() {
+        if (names.isEmpty() && patterns.isEmpty() && permitsAdditionalProperties && schemaOfAdditionalProperties == null
+                && propertyNameSchema == null) {
+            return;
+        }
+        checkers.add(new PropertyDispatch(this)::validate);
+    }
+
+    /**
+     * The single-pass validation of the keywords depending on the property names.
+     */
+    private static final class PropertyDispatch {
+
+        private static final int[] NO_MATCHING_PATTERNS = new int[0];
+
+        private final ObjectSchema schema;
+
+        private final String[] names;
+
+        private final Map<String, Integer> nameIndexes;
+
+        private final Schema[] propertySchemas;
+
+        /**
+         * {@code true} if some declared properties have default values, so the properties missing from the subject
+         * have to be checked after the pass.
+         */
+        private final boolean checksMissingProperties;
+
+        private final RegexpSet patterns;
+
+        private final Schema[] patternSchemas;
+
+        private final boolean permitsAdditionalProperties;
+
+        private final Schema schemaOfAdditionalProperties;
+
+        private final Schema propertyNameSchema;
+
+        private PropertyDispatch(ObjectSchemaCompiler compiler) {
+            this.schema = compiler.schema;
+            int nameCount = compiler.names.size();
+            this.names = compiler.names.toArray(new String[nameCount]);
+            this.nameIndexes = new HashMap<>(compiler.nameIndexes);
+            this.propertySchemas = compiler.propertySchemas.toArray(new Schema[nameCount]);
+            boolean checksMissingProperties = false;
+            for (Schema propertySchema : propertySchemas) {
+                checksMissingProperties |= propertySchema.hasDefaultValue();
+            }
+            this.checksMissingProperties = checksMissingProperties;
+            this.patterns = RegexpSet.of(compiler.patterns);
+            this.patternSchemas = compiler.patternSchemas.toArray(new Schema[compiler.patternSchemas.size()]);
+            this.permitsAdditionalProperties = compiler.permitsAdditionalProperties;
+            this.schemaOfAdditionalProperties = compiler.schemaOfAdditionalProperties;
+            this.propertyNameSchema = compiler.propertyNameSchema;
+        }
+
+        private void validate(JSONObject objSubject, ValidatingVisitor owner) {
+            long[] present = checksMissingProperties ? new long[(names.length + 63) >>> 6] : null;
+            int[] matchingPatterns = patterns.size() == 0 ? NO_MATCHING_PATTERNS : new int[patterns.size()];
+            Iterator<String> keys = objSubject.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Object value = objSubject.opt(key);
+                if (propertyNameSchema != null) {
+                    ValidationFailure failure = owner.getFailureOfSchema(propertyNameSchema, key);
+                    if (failure != null) {
+                        owner.subschemaFailure(failure, key);
+                    }
+                }
+                Integer index = nameIndexes.get(key);
+                if (index != null) {
+                    int i = index.intValue();
+                    if (present != null) {
+                        present[i >>> 6] |= 1L << i;
+                    }
+                    ValidationFailure failure = owner.getFailureOfSchema(propertySchemas[i], value);
+                    if (failure != null) {
+                        owner.subschemaFailure(failure, key);
+                    }
+                }
+                boolean matchesPattern = validatePatternProperties(key, value, matchingPatterns, owner);
+                if (index == null && !matchesPattern) {
+                    validateAdditionalProperty(key, value, owner);
+                }
+            }
+            if (present != null) {
+                injectDefaultValues(objSubject, present);
+            }
+        }
+
+        /**
+         * Validates {@code value} against the schemas of the patterns matching {@code key}.
+         *
+         * @return {@code true} if any pattern matched {@code key}, or if a pattern exceeded its matching budget, which is
+         *         reported as a failure, so that {@code key} isn't validated as an additional property
+         */
+        private boolean validatePatternProperties(String key, Object value, int[] matchingPatterns,
+                ValidatingVisitor owner) {
+            if (patterns.size() == 0) {
+                return false;
+            }
+            int matchCount;
+            try {
+                matchCount = patterns.matchingIndexes(key, matchingPatterns);
+            } catch (RegexpBudgetExceededException e) {
+                owner.keywordFailure("patternProperties", "object.patternProperties.budgetExceeded", key,
+                        e.getPattern());
+                return true;
+            }
+            for (int i = 0; i < matchCount; ++i) {
+                ValidationFailure failure = owner.getFailureOfSchema(patternSchemas[matchingPatterns[i]], value);
+                if (failure != null) {
+                    owner.subschemaFailure(failure, key);
+                }
+            }
+            return matchCount > 0;
+        }
+
+        private void validateAdditionalProperty(String key, Object value, ValidatingVisitor owner) {
+            if (!permitsAdditionalProperties) {
+                owner.keywordFailure("additionalProperties", "object.additionalProperties", key);
+            }
+            if (schemaOfAdditionalProperties != null) {
+                ValidationFailure failure = owner.getFailureOfSchema(schemaOfAdditionalProperties, value);
+                if (failure != null) {
+                    owner.subschemaFailure(failure, key, schema);
+                }
+            }
+        }
+
+        private void injectDefaultValues(JSONObject objSubject, long[] present) {
+            for (int i = 0; i < names.length; ++i) {
+                if ((present[i >>> 6] & (1L << i)) == 0 && propertySchemas[i].hasDefaultValue()) {
+                    objSubject.put(names[i], propertySchemas[i].getDefaultValue());
+                }
+            }
+        }
+    }
+}
@@ -16,8 +16,6 @@
  */
 package org.everit.json.schema;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-
 interface ReadWriteValidator {
 
     static ReadWriteValidator createForContext(ReadWriteContext context, ValidationFailureReporter failureReporter) {
@@ -43,7 +41,7 @@ class ReadOnlyValidator implements ReadWriteValidator {
 
     @Override public void validate(Schema schema, Object subject) {
         if (schema.isReadOnly() == Boolean.TRUE && subject != null) {
-            failureReporter.failure(ResourceBundleThreadLocal.get().getString("read-write.readOnly"), "readOnly");
+            failureReporter.keywordFailure("readOnly", "read-write.readOnly");
         }
     }
 }
@@ -58,7 +56,7 @@ class WriteOnlyValidator implements ReadWriteValidator {
 
     @Override public void validate(Schema schema, Object subject) {
         if (schema.isWriteOnly() == Boolean.TRUE && subject != null) {
-            failureReporter.failure(ResourceBundleThreadLocal.get().getString("read-write.writeOnly"), "writeOnly");
+            failureReporter.keywordFailure("writeOnly", "read-write.writeOnly");
         }
     }
 }
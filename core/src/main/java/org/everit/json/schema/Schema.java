@@ -20,12 +20,9 @@ import static java.util.Collections.unmodifiableMap;
 
 import java.io.StringWriter;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.ResourceBundle;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
 import org.everit.json.schema.internal.JSONPrinter;
 import org.json.JSONWriter;
 
@@ -140,6 +137,12 @@ public abstract class Schema {
 
     private final Map<String, Object> unprocessedProperties;
 
+    /**
+     * The validation plan of this schema, created on first use by {@link #getCompiledSchema()}. It is not part of the
+     * state of the schema, it is derived from it.
+     */
+    private transient volatile CompiledSchema compiledSchema;
+
     /**
      * Constructor.
      *
@@ -168,13 +171,21 @@ public abstract class Schema {
      *         if the {@code subject} is invalid against this schema.
      */
     public void validate(Object subject) {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
         Validator.builder().build().performValidation(this, subject);
     }
 
+    /**
+     * Checks if {@code subject} is valid against this schema, without describing the failures.
+     *
+     * @param subject
+     *         the object to be validated
+     * @return {@code true} if {@code subject} is valid against this schema
+     * @see Validator#isValid(Schema, Object)
+     */
+    public boolean isValid(Object subject) {
+        return Validator.builder().build().isValid(this, subject);
+    }
+
     /**
      * Determines if this {@code Schema} instance defines any restrictions for the object property
      * denoted by {@code field}. The {@code field} should be a JSON pointer, denoting the property to
@@ -338,6 +349,20 @@ public abstract class Schema {
 
     abstract void accept(Visitor visitor);
 
+    /**
+     * Returns the validation plan of this schema. The plan is compiled by the first call and reused afterwards. Since
+     * compiled plans are immutable, concurrent first calls may compile it more than once, but they all end up with an
+     * equivalent plan.
+     */
+    CompiledSchema getCompiledSchema() {
+        CompiledSchema compiled = compiledSchema;
+        if (compiled == null) {
+            compiled = SchemaCompiler.compile(this);
+            compiledSchema = compiled;
+        }
+        return compiled;
+    }
+
     @Override
     public String toString() {
         StringWriter w = new StringWriter();
@@ -0,0 +1,144 @@
+package org.everit.json.schema;
+
+import static org.everit.json.schema.ValidatingVisitor.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.everit.json.schema.event.SchemaReferencedEvent;
+
+/**
+ * Turns a {@link Schema} into its {@link CompiledSchema} validation plan.
+ * <p>
+ * The compiler walks the keywords of the schema only once, and emits a {@link KeywordChecker} only for the keywords
+ * which are actually present. Subschemas are not compiled eagerly: they are validated through
+ * {@link ValidatingVisitor#getFailureOfSchema(Schema, Object)}, which uses the (cached) plan of the subschema. This
+ * way recursive schemas (through {@link ReferenceSchema}) don't need any special handling.
+ * </p>
+ */
+class SchemaCompiler extends Visitor {
+
+    static CompiledSchema compile(Schema schema) {
+        SchemaCompiler compiler = new SchemaCompiler();
+        compiler.visit(schema);
+        return new CompiledSchema(KeywordChecker.sequence(compiler.checkers));
+    }
+
+    private final List<KeywordChecker<Object>> checkers = new ArrayList<>(2);
+
+    private SchemaCompiler() {
+    }
+
+    @Override
+    void visit(Schema schema) {
+        if (schema.isNullable() == Boolean.FALSE) {
+            checkers.add((subject, owner) -> {
+                if (isNull(subject)) {
+                    owner.keywordFailure("nullable", "object.non-null");
+                }
+            });
+        }
+        super.visit(schema);
+    }
+
+    @Override
+    void visitNumberSchema(NumberSchema numberSchema) {
+        checkers.add(NumberSchemaCompiler.compile(numberSchema));
+    }
+
+    @Override
+    void visitArraySchema(ArraySchema arraySchema) {
+        checkers.add(ArraySchemaCompiler.compile(arraySchema));
+    }
+
+    @Override
+    void visitObjectSchema(ObjectSchema objectSchema) {
+        checkers.add(ObjectSchemaCompiler.compile(objectSchema));
+    }
+
+    @Override
+    void visitStringSchema(StringSchema stringSchema) {
+        checkers.add(StringSchemaCompiler.compile(stringSchema));
+    }
+
+    @Override
+    void visitConditionalSchema(ConditionalSchema conditionalSchema) {
+        checkers.add(ConditionalSchemaCompiler.compile(conditionalSchema));
+    }
+
+    @Override
+    void visitBooleanSchema(BooleanSchema schema) {
+        checkers.add((subject, owner) -> {
+            if (!(subject instanceof Boolean)) {
+                owner.failure(Boolean.class, subject);
+            }
+        });
+    }
+
+    @Override
+    void visitNullSchema(NullSchema nullSchema) {
+        checkers.add((subject, owner) -> {
+            if (!isNull(subject)) {
+                owner.keywordFailure("type", "object.null-expected", subject.getClass().getSimpleName());
+            }
+        });
+    }
+
+    @Override
+    void visitConstSchema(ConstSchema constSchema) {
+        Object permittedValue = constSchema.getPermittedValue();
+        checkers.add((subject, owner) -> {
+            if (!JsonValues.equal(subject, permittedValue)) {
+                owner.failure("", "const");
+            }
+        });
+    }
+
+    @Override
+    void visitEnumSchema(EnumSchema enumSchema) {
+        JsonValueSet possibleValues = new JsonValueSet(enumSchema.getPossibleValuesAsList());
+        checkers.add((subject, owner) -> {
+            if (!possibleValues.contains(subject)) {
+                owner.keywordFailure("enum", "object.invalid-enum", subject);
+            }
+        });
+    }
+
+    @Override
+    void visitFalseSchema(FalseSchema falseSchema) {
+        checkers.add((subject, owner) -> owner.keywordFailure("false", "object.false"));
+    }
+
+    @Override
+    void visitNotSchema(NotSchema notSchema) {
+        Schema mustNotMatch = notSchema.getMustNotMatch();
+        checkers.add((subject, owner) -> {
+            if (owner.getFailureOfSchema(mustNotMatch, subject) == null) {
+                owner.keywordFailure("not", "object.not", mustNotMatch);
+            }
+        });
+    }
+
+    @Override
+    void visitReferenceSchema(ReferenceSchema referenceSchema) {
+        checkers.add((subject, owner) -> {
+            Schema referredSchema = referenceSchema.getReferredSchema();
+            if (referredSchema == null) {
+                throw new IllegalStateException("referredSchema must be injected before validation");
+            }
+            ValidationFailure failure = owner.getFailureOfSchema(referredSchema, subject);
+            if (failure != null) {
+                owner.failure(failure);
+            }
+            if (owner.isListening()) {
+                owner.validationListener.schemaReferenced(
+                        new SchemaReferencedEvent(referenceSchema, subject, referredSchema));
+            }
+        });
+    }
+
+    @Override
+    void visitCombinedSchema(CombinedSchema combinedSchema) {
+        checkers.add(CombinedSchemaCompiler.compile(combinedSchema));
+    }
+}
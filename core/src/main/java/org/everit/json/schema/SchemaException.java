@@ -16,7 +16,6 @@
  */
 package org.everit.json.schema;
 
-import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
@@ -24,7 +23,7 @@ import static java.util.stream.Collectors.joining;
 import java.util.Collection;
 import java.util.List;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 
 import org.json.JSONObject;
 
@@ -51,7 +50,7 @@ public class SchemaException extends RuntimeException {
             System.arraycopy(furtherExpectedTypes, 0, allExpecteds, 1, furtherExpectedTypes.length);
             return buildMessage(pointer, actualTypeDescr, asList(allExpecteds));
         }
-        return format(ResourceBundleThreadLocal.get().getString("object.wrong-type"), pointer,
+        return MessageCatalog.DEFAULT.format("object.wrong-type", pointer,
                 expectedType.getSimpleName(),
                 actualTypeDescr);
     }
@@ -63,8 +62,8 @@ public class SchemaException extends RuntimeException {
     static String buildMessage(String formattedPointer, String actualTypeDescr, Collection<Class<?>> expectedTypes) {
         String fmtExpectedTypes = expectedTypes.stream()
                 .map(Class::getSimpleName)
-                .collect(joining(ResourceBundleThreadLocal.get().getString("object.or-noun")));
-        return format(ResourceBundleThreadLocal.get().getString("object.wrong-type.one-of"), formattedPointer,
+                .collect(joining(MessageCatalog.DEFAULT.getString("object.or-noun")));
+        return MessageCatalog.DEFAULT.format("object.wrong-type.one-of", formattedPointer,
                 fmtExpectedTypes,
                 actualTypeDescr);
     }
@@ -108,15 +107,15 @@ public class SchemaException extends RuntimeException {
 
     @Deprecated
     public SchemaException(String key, Class<?> expectedType, Object actualValue) {
-        this(format(ResourceBundleThreadLocal.get().getString("object.wrong-type.key"), key, expectedType
+        this(MessageCatalog.DEFAULT.format("object.wrong-type.key", key, expectedType
                 .getSimpleName(), typeOfValue(actualValue)));
     }
 
     @Deprecated
     public SchemaException(String key, List<Class<?>> expectedTypes,
             final Object actualValue) {
-        this(format(ResourceBundleThreadLocal.get().getString("object.wrong-type.key.one-of"),
-                key, joinClassNames(expectedTypes), typeOfValue(actualValue)));
+        this(MessageCatalog.DEFAULT.format("object.wrong-type.key.one-of", key, joinClassNames(expectedTypes),
+                typeOfValue(actualValue)));
     }
 
     @Deprecated
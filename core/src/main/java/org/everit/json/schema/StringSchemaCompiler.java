@@ -0,0 +1,143 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.everit.json.schema.regexp.Regexp;
+import org.everit.json.schema.regexp.RegexpBudgetExceededException;
+
+class StringSchemaCompiler extends Visitor {
+
+    static KeywordChecker<Object> compile(StringSchema stringSchema) {
+        StringSchemaCompiler compiler = new StringSchemaCompiler();
+        stringSchema.accept(compiler);
+        return KeywordChecker.typeChecked(String.class, stringSchema.requireString(), stringSchema.isNullable(),
+                KeywordChecker.sequence(compiler.checkers));
+    }
+
+    private final List<KeywordChecker<String>> checkers = new ArrayList<>();
+
+    private Integer minLength;
+
+    private StringSchemaCompiler() {
+    }
+
+    @Override void visitMinLength(Integer minLength) {
+        this.minLength = minLength;
+    }
+
+    /**
+     * Emits a single checker for both {@code minLength} and {@code maxLength}. The length of the subject (in code
+     * points) is between half of its length in chars and its length in chars, so in most cases the subject doesn't need
+     * to be scanned at all, and otherwise it is scanned only until the outcome is known. The exact length is only
+     * counted if it is needed for a failure message.
+     */
+    @Override void visitMaxLength(Integer maxLength) {
+        Integer minLength = this.minLength;
+        if (minLength == null && maxLength == null) {
+            return;
+        }
+        checkers.add((stringSubject, owner) -> {
+            if (minLength != null && !hasMoreCodePointsThan(stringSubject, minLength.intValue() - 1)) {
+                owner.keywordFailure("minLength", "string.minLength", minLength, codePointCountOf(stringSubject));
+            }
+            if (maxLength != null && hasMoreCodePointsThan(stringSubject, maxLength.intValue())) {
+                owner.keywordFailure("maxLength", "string.maxLength", maxLength, codePointCountOf(stringSubject));
+            }
+        });
+    }
+
+    private static ValidationFailure.DeferredArgument codePointCountOf(String stringSubject) {
+        return () -> stringSubject.codePointCount(0, stringSubject.length());
+    }
+
+    /**
+     * Checks if {@code str} consists of more than {@code limit} code points, scanning it only until the outcome is
+     * known.
+     */
+    static boolean hasMoreCodePointsThan(String str, int limit) {
+        int length = str.length();
+        int count = 0;
+        for (int i = 0; i < length; ++i) {
+            int remaining = length - i;
+            if (count + remaining <= limit) {
+                return false;
+            } else if (count + (remaining + 1) / 2 > limit) {
+                return true;
+            }
+            if (Character.isHighSurrogate(str.charAt(i)) && i + 1 < length
+                    && Character.isLowSurrogate(str.charAt(i + 1))) {
+                ++i;
+            }
+            ++count;
+        }
+        return count > limit;
+    }
+
+    @Override void visitPattern(Regexp pattern) {
+        if (pattern != null) {
+            checkers.add((stringSubject, owner) -> {
+                try {
+                    if (!pattern.matches(stringSubject)) {
+                        owner.keywordFailure("pattern", "string.pattern", stringSubject, pattern);
+                    }
+                } catch (RegexpBudgetExceededException e) {
+                    owner.keywordFailure("pattern", "string.pattern.budgetExceeded", stringSubject, pattern);
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks if {@code validatorClass} overrides {@link FormatValidator#validate(String)} below the class implementing
+     * {@link FormatValidator#isValid(CharSequence)}, like subclasses of the built-in validators overriding only
+     * {@code validate}. Such validators are checked by {@code validate}, so that the override isn't bypassed.
+     */
+    private static boolean overridesOnlyValidate(Class<?> validatorClass) {
+        try {
+            Class<?> validateOwner = validatorClass.getMethod("validate", String.class).getDeclaringClass();
+            Class<?> isValidOwner = validatorClass.getMethod("isValid", CharSequence.class).getDeclaringClass();
+            return validateOwner != isValidOwner && isValidOwner.isAssignableFrom(validateOwner);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override void visitFormat(FormatValidator formatValidator) {
+        if (formatValidator == null || formatValidator == FormatValidator.NONE) {
+            return;
+        }
+        if (overridesOnlyValidate(formatValidator.getClass())) {
+            checkers.add((stringSubject, owner) -> {
+                Optional<String> failure = formatValidator.validate(stringSubject);
+                if (failure.isPresent()) {
+                    owner.failure(failure.get(), "format");
+                }
+            });
+        } else {
+            checkers.add((stringSubject, owner) -> {
+                if (!formatValidator.isValid(stringSubject)) {
+                    owner.failure(catalog -> formatValidator.failureMessage(stringSubject, catalog), "format");
+                }
+            });
+        }
+    }
+
+}
@@ -20,21 +20,20 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.joining;
-import static org.everit.json.schema.EnumSchema.toJavaValue;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
-import org.everit.json.schema.event.CombinedSchemaMatchEvent;
-import org.everit.json.schema.event.CombinedSchemaMismatchEvent;
-import org.everit.json.schema.event.SchemaReferencedEvent;
 import org.everit.json.schema.event.ValidationListener;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-class ValidatingVisitor extends Visitor {
+/**
+ * Holds the state of a single validation run, and executes the {@link CompiledSchema compiled validation plans} of
+ * the visited schemas.
+ */
+class ValidatingVisitor {
 
     private static final List<Class<?>> VALIDATED_TYPES = unmodifiableList(asList(
             Number.class,
@@ -48,10 +47,19 @@ class ValidatingVisitor extends Visitor {
     static final String TYPE_FAILURE_MSG = "subject is an instance of non-handled type %s. Should be one of "
             + VALIDATED_TYPES.stream().map(Class::getSimpleName).collect(joining(", "));
 
-    private static boolean isNull(Object obj) {
+    static boolean isNull(Object obj) {
         return obj == null || JSONObject.NULL.equals(obj);
     }
 
+    private static boolean isValidatedType(Class<?> type) {
+        for (Class<?> validatedType : VALIDATED_TYPES) {
+            if (validatedType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected Object subject;
 
     final ValidationListener validationListener;
@@ -60,171 +68,81 @@ class ValidatingVisitor extends Visitor {
 
     private final ReadWriteValidator readWriteValidator;
 
-    @Override
     void visit(Schema schema) {
-        if (schema.isNullable() == Boolean.FALSE && isNull(subject)) {
-            failureReporter.failure(ResourceBundleThreadLocal.get().getString("object.non-null"), "nullable");
-        }
         readWriteValidator.validate(schema, subject);
-        super.visit(schema);
+        schema.getCompiledSchema().validate(subject, this);
     }
 
     ValidatingVisitor(Object subject, ValidationFailureReporter failureReporter, ReadWriteValidator readWriteValidator,
             ValidationListener validationListener) {
-        if (subject != null && !VALIDATED_TYPES.stream().anyMatch(type -> type.isAssignableFrom(subject.getClass()))) {
+        if (subject != null && !isValidatedType(subject.getClass())) {
             throw new IllegalArgumentException(format(TYPE_FAILURE_MSG, subject.getClass().getSimpleName()));
         }
         this.subject = subject;
         this.failureReporter = failureReporter;
         this.readWriteValidator = readWriteValidator;
-        this.validationListener = validationListener;
+        this.validationListener = validationListener == null ? ValidationListener.NOOP : validationListener;
     }
 
-    @Override
-    void visitNumberSchema(NumberSchema numberSchema) {
-        numberSchema.accept(new NumberSchemaValidatingVisitor(subject, this));
+    /**
+     * Returns {@code true} if validation events have to be created, so failures have to be turned into
+     * {@link ValidationException}s for them.
+     */
+    boolean isListening() {
+        return validationListener != ValidationListener.NOOP;
     }
 
-    @Override
-    void visitArraySchema(ArraySchema arraySchema) {
-        arraySchema.accept(new ArraySchemaValidatingVisitor(subject, this));
-    }
-
-    @Override
-    void visitBooleanSchema(BooleanSchema schema) {
-        if (!(subject instanceof Boolean)) {
-            failureReporter.failure(Boolean.class, subject);
-        }
-    }
-
-    @Override
-    void visitNullSchema(NullSchema nullSchema) {
-        if (!(subject == null || subject == JSONObject.NULL)) {
-            failureReporter.failure(format(ResourceBundleThreadLocal.get().getString("object.null-expected"), subject.getClass().getSimpleName()), "type");
-        }
-    }
-
-    @Override
-    void visitConstSchema(ConstSchema constSchema) {
-        if (isNull(subject) && isNull(constSchema.getPermittedValue())) {
-            return;
-        }
-        Object effectiveSubject = toJavaValue(subject);
-        if (!ObjectComparator.deepEquals(effectiveSubject, constSchema.getPermittedValue())) {
-            failureReporter.failure("", "const");
-        }
-    }
-
-    @Override
-    void visitEnumSchema(EnumSchema enumSchema) {
-        Object effectiveSubject = toJavaValue(subject);
-        for (Object possibleValue : enumSchema.getPossibleValues()) {
-            if (ObjectComparator.deepEquals(possibleValue, effectiveSubject)) {
-                return;
-            }
-        }
-        failureReporter.failure(format(ResourceBundleThreadLocal.get().getString("object.invalid-enum"), subject), "enum");
-    }
-
-    @Override
-    void visitFalseSchema(FalseSchema falseSchema) {
-        failureReporter.failure(ResourceBundleThreadLocal.get().getString("object.false"), "false");
-    }
-
-    @Override
-    void visitNotSchema(NotSchema notSchema) {
-        Schema mustNotMatch = notSchema.getMustNotMatch();
-        ValidationException failure = getFailureOfSchema(mustNotMatch, subject);
-        if (failure == null) {
-            failureReporter.failure(format(ResourceBundleThreadLocal.get().getString("object.not"), mustNotMatch), "not");
-        }
+    ValidationFailure getFailureOfSchema(Schema schema, Object input) {
+        Object origSubject = this.subject;
+        this.subject = input;
+        ValidationFailure rval = failureReporter.failureOfSchema(schema, () -> visit(schema));
+        this.subject = origSubject;
+        return rval;
     }
 
-    @Override
-    void visitReferenceSchema(ReferenceSchema referenceSchema) {
-        Schema referredSchema = referenceSchema.getReferredSchema();
-        if (referredSchema == null) {
-            throw new IllegalStateException("referredSchema must be injected before validation");
-        }
-        ValidationException failure = getFailureOfSchema(referredSchema, subject);
-        if (failure != null) {
-            failureReporter.failure(failure);
-        }
-        if (validationListener != null) {
-            validationListener.schemaReferenced(new SchemaReferencedEvent(referenceSchema, subject, referredSchema));
-        }
+    boolean isFailingEarly() {
+        return failureReporter.isFailingEarly();
     }
 
-    @Override
-    void visitObjectSchema(ObjectSchema objectSchema) {
-        objectSchema.accept(new ObjectSchemaValidatingVisitor(subject, this));
+    void failIfErrorFound() {
+        failureReporter.validationFinished();
     }
 
-    @Override
-    void visitStringSchema(StringSchema stringSchema) {
-        stringSchema.accept(new StringSchemaValidatingVisitor(subject, this));
+    void failure(String message, String keyword) {
+        failureReporter.failure(message, keyword);
     }
 
-    @Override
-    void visitCombinedSchema(CombinedSchema combinedSchema) {
-        Collection<Schema> subschemas = combinedSchema.getSubschemas();
-        List<ValidationException> failures = new ArrayList<>(subschemas.size());
-        CombinedSchema.ValidationCriterion criterion = combinedSchema.getCriterion();
-        for (Schema subschema : subschemas) {
-            ValidationException exception = getFailureOfSchema(subschema, subject);
-            if (null != exception) {
-                failures.add(exception);
-            }
-            reportSchemaMatchEvent(combinedSchema, subschema, exception);
-        }
-        int matchingCount = subschemas.size() - failures.size();
-        try {
-            criterion.validate(subschemas.size(), matchingCount);
-        } catch (ValidationException e) {
-            failureReporter.failure(new ValidationException(combinedSchema,
-                    new StringBuilder(e.getPointerToViolation()),
-                    e.getMessage(),
-                    failures,
-                    e.getKeyword(),
-                    combinedSchema.getSchemaLocation()));
-        }
+    void failure(Function<MessageCatalog, String> message, String keyword) {
+        failureReporter.failure(message, keyword);
     }
 
-    @Override
-    void visitConditionalSchema(ConditionalSchema conditionalSchema) {
-        conditionalSchema.accept(new ConditionalSchemaValidatingVisitor(subject, this));
+    void failure(Class<?> expectedType, Object actualValue) {
+        failureReporter.failure(expectedType, actualValue);
     }
 
-    private void reportSchemaMatchEvent(CombinedSchema schema, Schema subschema, ValidationException failure) {
-        if (failure == null) {
-            validationListener.combinedSchemaMatch(new CombinedSchemaMatchEvent(schema, subschema, subject));
-        } else {
-            validationListener.combinedSchemaMismatch(new CombinedSchemaMismatchEvent(schema, subschema, subject, failure));
-        }
+    void failure(ValidationFailure failure) {
+        failureReporter.failure(failure);
     }
 
-    ValidationException getFailureOfSchema(Schema schema, Object input) {
-        Object origSubject = this.subject;
-        this.subject = input;
-        ValidationException rval = failureReporter.inContextOfSchema(schema, () -> visit(schema));
-        this.subject = origSubject;
-        return rval;
+    void keywordFailure(String keyword, String messageKey, Object... messageArgs) {
+        failureReporter.keywordFailure(keyword, messageKey, messageArgs);
     }
 
-    void failIfErrorFound() {
-        failureReporter.validationFinished();
+    void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment) {
+        failureReporter.subschemaFailure(subschemaFailure, pointerFragment);
     }
 
-    void failure(String message, String keyword) {
-        failureReporter.failure(message, keyword);
+    void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment, Schema violatedSchema) {
+        failureReporter.subschemaFailure(subschemaFailure, pointerFragment, violatedSchema);
     }
 
-    void failure(Class<?> expectedType, Object actualValue) {
-        failureReporter.failure(expectedType, actualValue);
+    void failureWithCauses(String keyword, String messageKey, List<ValidationFailure> causes) {
+        failureReporter.failureWithCauses(keyword, messageKey, causes);
     }
 
-    void failure(ValidationException exc) {
-        failureReporter.failure(exc);
+    void validateCriterion(CombinedSchema.ValidationCriterion criterion, int subschemaCount, int matchingCount,
+            List<ValidationFailure> failures) {
+        failureReporter.validateCriterion(criterion, subschemaCount, matchingCount, failures);
     }
 
     boolean passesTypeCheck(Class<?> expectedType, boolean schemaRequiresType, Boolean nullable) {
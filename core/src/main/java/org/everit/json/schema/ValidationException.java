@@ -18,7 +18,6 @@ package org.everit.json.schema;
 
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
-import static org.everit.json.schema.JSONPointer.escape;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,7 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -37,7 +36,7 @@ import org.json.JSONObject;
 public class ValidationException extends RuntimeException {
     private static final long serialVersionUID = 6192047123024651924L;
 
-    private static int getViolationCount(List<ValidationException> causes) {
+    static int getViolationCount(List<ValidationException> causes) {
         int causeCount = causes.stream().mapToInt(ValidationException::getViolationCount).sum();
         return Math.max(1, causeCount);
     }
@@ -73,26 +72,45 @@ public class ValidationException extends RuntimeException {
      */
     public static void throwFor(Schema rootFailingSchema,
             List<ValidationException> failures) {
+        throwFor(rootFailingSchema, failures, MessageCatalog.DEFAULT);
+    }
+
+    /**
+     * Same as {@link #throwFor(Schema, List)}, with the message of the wrapping exception looked up in
+     * {@code catalog}.
+     */
+    static void throwFor(Schema rootFailingSchema, List<ValidationException> failures, MessageCatalog catalog) {
         int failureCount = failures.size();
         if (failureCount == 0) {
             return;
         } else if (failureCount == 1) {
             throw failures.get(0);
         } else {
-            throw createWrappingException(rootFailingSchema, failures);
+            throw createWrappingException(rootFailingSchema, failures, catalog);
         }
     }
 
     static ValidationException createWrappingException(Schema rootFailingSchema, List<ValidationException> failures) {
+        return createWrappingException(rootFailingSchema, failures, MessageCatalog.DEFAULT);
+    }
+
+    static ValidationException createWrappingException(Schema rootFailingSchema, List<ValidationException> failures,
+            MessageCatalog catalog) {
         return new ValidationException(rootFailingSchema,
                 new StringBuilder("#"),
-                String.format(ResourceBundleThreadLocal.get().getString("validations.count"), getViolationCount(failures)),
+                catalog.format("validations.count", getViolationCount(failures)),
                 new ArrayList<>(failures),
                 null,
                 rootFailingSchema.getSchemaLocation());
     }
 
-    private final StringBuilder pointerToViolation;
+    private final ViolationPath pointerToViolation;
+
+    /**
+     * The path to be prepended to the pointers of the {@link #causingExceptions}. Fragments {@link #prepend(String)
+     * prepended} to this instance are only applied to its causes lazily, when {@link #getCausingExceptions()} is called.
+     */
+    private final ViolationPath causePrefix;
 
     private final String schemaLocation;
 
@@ -100,6 +118,8 @@ public class ValidationException extends RuntimeException {
 
     private final List<ValidationException> causingExceptions;
 
+    private transient volatile List<ValidationException> prefixedCausingExceptions;
+
     private final String keyword;
 
     /**
@@ -147,8 +167,8 @@ public class ValidationException extends RuntimeException {
     public ValidationException(Schema violatedSchema, Class<?> expectedType,
             Object actualValue, String keyword) {
         this(violatedSchema, new StringBuilder("#"),
-                String.format(ResourceBundleThreadLocal.get().getString("validations.expected-type"),
-                        expectedType.getSimpleName(),(actualValue == null ? "null" : actualValue.getClass().getSimpleName())),
+                MessageCatalog.DEFAULT.format("validations.expected-type", expectedType.getSimpleName(),
+                        (actualValue == null ? "null" : actualValue.getClass().getSimpleName())),
                 Collections.emptyList(), keyword, null);
     }
 
@@ -170,8 +190,8 @@ public class ValidationException extends RuntimeException {
     public ValidationException(Schema violatedSchema, Class<?> expectedType,
             Object actualValue, String keyword, String schemaLocation) {
         this(violatedSchema, new StringBuilder("#"),
-                String.format(ResourceBundleThreadLocal.get().getString("validations.expected-type"),
-                        expectedType.getSimpleName(),(actualValue == null ? "null" : actualValue.getClass().getSimpleName())),
+                MessageCatalog.DEFAULT.format("validations.expected-type", expectedType.getSimpleName(),
+                        (actualValue == null ? "null" : actualValue.getClass().getSimpleName())),
                 Collections.emptyList(), keyword, schemaLocation);
     }
 
@@ -280,12 +300,8 @@ public class ValidationException extends RuntimeException {
             List<ValidationException> causingExceptions,
             String keyword,
             String schemaLocation) {
-        super(message);
-        this.violatedSchema = violatedSchema;
-        this.pointerToViolation = pointerToViolation;
-        this.causingExceptions = Collections.unmodifiableList(causingExceptions);
-        this.keyword = keyword;
-        this.schemaLocation = schemaLocation;
+        this(violatedSchema, pointerToViolation == null ? null : ViolationPath.of(pointerToViolation.toString()),
+                ViolationPath.ROOT, message, causingExceptions, keyword, schemaLocation);
     }
 
     /**
@@ -299,12 +315,31 @@ public class ValidationException extends RuntimeException {
         this((Schema) null, new StringBuilder("#"), message, Collections.emptyList());
     }
 
-    private ValidationException(StringBuilder pointerToViolation,
-            Schema violatedSchema,
+    /**
+     * Constructor used by {@link ValidationFailure}: the pointers of the {@code causingExceptions} are relative to
+     * {@code pointerToViolation}.
+     */
+    ValidationException(ViolationPath pointerToViolation, Schema violatedSchema,
             String message,
             List<ValidationException> causingExceptions,
-            String keyword, String schemaLocation) {
-        this(violatedSchema, pointerToViolation, message, causingExceptions, keyword, schemaLocation);
+            String keyword,
+            String schemaLocation) {
+        this(violatedSchema, pointerToViolation, pointerToViolation, message, causingExceptions, keyword,
+                schemaLocation);
+    }
+
+    private ValidationException(Schema violatedSchema, ViolationPath pointerToViolation, ViolationPath causePrefix,
+            String message,
+            List<ValidationException> causingExceptions,
+            String keyword,
+            String schemaLocation) {
+        super(message);
+        this.violatedSchema = violatedSchema;
+        this.pointerToViolation = pointerToViolation;
+        this.causePrefix = causePrefix;
+        this.causingExceptions = Collections.unmodifiableList(causingExceptions);
+        this.keyword = keyword;
+        this.schemaLocation = schemaLocation;
     }
 
     /**
@@ -326,7 +361,18 @@ public class ValidationException extends RuntimeException {
     }
 
     public List<ValidationException> getCausingExceptions() {
-        return causingExceptions;
+        if (causePrefix.isRoot()) {
+            return causingExceptions;
+        }
+        List<ValidationException> rval = prefixedCausingExceptions;
+        if (rval == null) {
+            List<ValidationException> prefixed = new ArrayList<>(causingExceptions.size());
+            for (ValidationException cause : causingExceptions) {
+                prefixed.add(cause.prependAll(causePrefix, cause.violatedSchema));
+            }
+            prefixedCausingExceptions = rval = Collections.unmodifiableList(prefixed);
+        }
+        return rval;
     }
 
     /**
@@ -338,7 +384,7 @@ public class ValidationException extends RuntimeException {
         if (causingExceptions.isEmpty()) {
             return singletonList(getMessage());
         } else {
-            return new ArrayList<>(getAllMessages(causingExceptions));
+            return new ArrayList<>(getAllMessages(getCausingExceptions()));
         }
     }
 
@@ -371,10 +417,7 @@ public class ValidationException extends RuntimeException {
      * @return the JSON pointer
      */
     public String getPointerToViolation() {
-        if (pointerToViolation == null) {
-            return null;
-        }
-        return pointerToViolation.toString();
+        return pointerToViolation == null ? null : pointerToViolation.toString();
     }
 
     public Schema getViolatedSchema() {
@@ -405,13 +448,19 @@ public class ValidationException extends RuntimeException {
      * @return the new {@code ViolationException} instance
      */
     public ValidationException prepend(String fragment, Schema violatedSchema) {
-        String escapedFragment = escape(requireNonNull(fragment, "fragment cannot be null"));
-        StringBuilder newPointer = this.pointerToViolation.insert(1, '/').insert(2, escapedFragment);
-        List<ValidationException> prependedCausingExceptions = causingExceptions.stream()
-                .map(exc -> exc.prepend(escapedFragment))
-                .collect(Collectors.toList());
-        return new ValidationException(newPointer, violatedSchema, super.getMessage(),
-                prependedCausingExceptions, this.keyword, this.schemaLocation);
+        requireNonNull(fragment, "fragment cannot be null");
+        return new ValidationException(violatedSchema, pointerToViolation.prepend(fragment), causePrefix.prepend(fragment),
+                super.getMessage(), causingExceptions, keyword, schemaLocation);
+    }
+
+    /**
+     * Creates a new instance based on this one, with {@code prefix} prepended to its pointer.
+     */
+    ValidationException prependAll(ViolationPath prefix, Schema violatedSchema) {
+        return new ValidationException(violatedSchema,
+                pointerToViolation == null ? null : prefix.concat(pointerToViolation),
+                prefix.concat(causePrefix),
+                super.getMessage(), causingExceptions, keyword, schemaLocation);
     }
 
     public int getViolationCount() {
@@ -451,7 +500,7 @@ public class ValidationException extends RuntimeException {
             rval.put("pointerToViolation", getPointerToViolation());
         }
         rval.put("message", super.getMessage());
-        List<JSONObject> causeJsons = causingExceptions.stream()
+        List<JSONObject> causeJsons = getCausingExceptions().stream()
                 .map(ValidationException::toJSON)
                 .collect(Collectors.toList());
         rval.put("causingExceptions", new JSONArray(causeJsons));
@@ -477,22 +526,22 @@ public class ValidationException extends RuntimeException {
 
         ValidationException that = (ValidationException) o;
 
-        if (!pointerToViolation.toString().equals(that.pointerToViolation.toString()))
+        if (!Objects.equals(getPointerToViolation(), that.getPointerToViolation()))
             return false;
         if (schemaLocation != null ? !schemaLocation.equals(that.schemaLocation) : that.schemaLocation != null)
             return false;
         if (!violatedSchema.equals(that.violatedSchema))
             return false;
-        if (!causingExceptions.equals(that.causingExceptions))
+        if (!getCausingExceptions().equals(that.getCausingExceptions()))
             return false;
         return Objects.equals(keyword, that.keyword) && Objects.equals(getMessage(), that.getMessage());
     }
 
     @Override public int hashCode() {
-        int result = pointerToViolation == null ? 0 : pointerToViolation.hashCode();
+        int result = Objects.hashCode(getPointerToViolation());
         result = 31 * result + (schemaLocation != null ? schemaLocation.hashCode() : 0);
         result = 31 * result + (violatedSchema == null ? 0 : violatedSchema.hashCode());
-        result = 31 * result + (causingExceptions == null ? 0 : causingExceptions.hashCode());
+        result = 31 * result + getCausingExceptions().hashCode();
         result = 31 * result + (keyword == null ? 0 : keyword.hashCode());
         return result;
     }
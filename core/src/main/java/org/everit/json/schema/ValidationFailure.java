@@ -0,0 +1,168 @@
+package org.everit.json.schema;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.everit.json.schema.i18n.MessageCatalog;
+
+/**
+ * Internal, lightweight representation of a validation failure.
+ * <p>
+ * Failures are recorded as instances of this class during the validation, and they are only turned into
+ * {@link ValidationException}s (by {@link #toException()}) if the caller actually receives them. Unlike exceptions,
+ * creating a {@code ValidationFailure} doesn't capture a stack trace, and its message is only looked up (in the
+ * {@link MessageCatalog} of the validation) and formatted when the exception is created.
+ * </p>
+ * <p>
+ * The {@link ViolationPath path} of the causing failures is relative to the path of the failure they belong to, so
+ * prepending a pointer fragment doesn't need to touch the causes. The same holds for the created exceptions.
+ * </p>
+ */
+final class ValidationFailure {
+
+    static ValidationFailure ofKeyword(Schema violatedSchema, String keyword, MessageCatalog catalog,
+            String messageKey, Object[] messageArgs) {
+        return new ValidationFailure(violatedSchema, keyword,
+                causes -> messageArgs.length == 0
+                        ? catalog.getString(messageKey)
+                        : catalog.format(messageKey, computeDeferredArguments(messageArgs)),
+                emptyList());
+    }
+
+    /**
+     * A message argument of {@link #ofKeyword(Schema, String, MessageCatalog, String, Object[])} which is costly to
+     * compute, so it is only computed if the message is formatted.
+     */
+    @FunctionalInterface
+    interface DeferredArgument {
+
+        Object compute();
+
+    }
+
+    private static Object[] computeDeferredArguments(Object[] messageArgs) {
+        Object[] computed = messageArgs;
+        for (int i = 0; i < messageArgs.length; ++i) {
+            if (messageArgs[i] instanceof DeferredArgument) {
+                if (computed == messageArgs) {
+                    computed = messageArgs.clone();
+                }
+                computed[i] = ((DeferredArgument) messageArgs[i]).compute();
+            }
+        }
+        return computed;
+    }
+
+    static ValidationFailure ofMessage(Schema violatedSchema, String keyword, String message) {
+        return new ValidationFailure(violatedSchema, keyword, causes -> message, emptyList());
+    }
+
+    /**
+     * Creates a failure with a message which is only computed (by {@code message}, from {@code catalog}) if the
+     * failure is turned into a {@link ValidationException}.
+     */
+    static ValidationFailure ofMessage(Schema violatedSchema, String keyword, MessageCatalog catalog,
+            Function<MessageCatalog, String> message) {
+        return new ValidationFailure(violatedSchema, keyword, causes -> message.apply(catalog), emptyList());
+    }
+
+    static ValidationFailure ofType(Schema violatedSchema, MessageCatalog catalog, Class<?> expectedType,
+            Object actualValue) {
+        return new ValidationFailure(violatedSchema, "type",
+                causes -> catalog.format("validations.expected-type", expectedType.getSimpleName(),
+                        actualValue == null ? "null" : actualValue.getClass().getSimpleName()),
+                emptyList());
+    }
+
+    static ValidationFailure ofCauses(Schema violatedSchema, String keyword, MessageCatalog catalog, String messageKey,
+            List<ValidationFailure> causes) {
+        return new ValidationFailure(violatedSchema, keyword, exceptions -> catalog.getString(messageKey), causes);
+    }
+
+    static ValidationFailure ofCauses(Schema violatedSchema, String keyword, Function<List<ValidationException>, String> message,
+            List<ValidationFailure> causes) {
+        return new ValidationFailure(violatedSchema, keyword, message, causes);
+    }
+
+    /**
+     * Creates a failure wrapping multiple {@code causes}, like {@link ValidationException#throwFor(Schema, List)} does.
+     */
+    static ValidationFailure wrapping(Schema violatedSchema, MessageCatalog catalog, List<ValidationFailure> causes) {
+        return new ValidationFailure(violatedSchema, null,
+                exceptions -> catalog.format("validations.count", ValidationException.getViolationCount(exceptions)),
+                causes);
+    }
+
+    /**
+     * Creates a failure from an already existing exception. {@link #toException()} returns {@code exception} itself
+     * as long as no pointer fragment is prepended to the failure.
+     */
+    static ValidationFailure of(ValidationException exception) {
+        return new ValidationFailure(exception.getViolatedSchema(), exception.getKeyword(),
+                exception.getSchemaLocation(), ViolationPath.ROOT, null, emptyList(), exception);
+    }
+
+    static List<ValidationException> toExceptions(List<ValidationFailure> failures) {
+        List<ValidationException> exceptions = new ArrayList<>(failures.size());
+        for (ValidationFailure failure : failures) {
+            exceptions.add(failure.toException());
+        }
+        return exceptions;
+    }
+
+    private final Schema violatedSchema;
+
+    private final String keyword;
+
+    private final String schemaLocation;
+
+    private final ViolationPath path;
+
+    private final Function<List<ValidationException>, String> message;
+
+    private final List<ValidationFailure> causes;
+
+    private final ValidationException exception;
+
+    private ValidationFailure(Schema violatedSchema, String keyword, Function<List<ValidationException>, String> message,
+            List<ValidationFailure> causes) {
+        this(violatedSchema, keyword, violatedSchema.getSchemaLocation(), ViolationPath.ROOT, message, causes, null);
+    }
+
+    private ValidationFailure(Schema violatedSchema, String keyword, String schemaLocation, ViolationPath path,
+            Function<List<ValidationException>, String> message, List<ValidationFailure> causes,
+            ValidationException exception) {
+        this.violatedSchema = violatedSchema;
+        this.keyword = keyword;
+        this.schemaLocation = schemaLocation;
+        this.path = path;
+        this.message = message;
+        this.causes = requireNonNull(causes, "causes cannot be null");
+        this.exception = exception;
+    }
+
+    /**
+     * Creates a new failure based on this one, with {@code fragment} prepended to its pointer.
+     */
+    ValidationFailure prepend(String fragment) {
+        return prepend(fragment, violatedSchema);
+    }
+
+    ValidationFailure prepend(String fragment, Schema violatedSchema) {
+        return new ValidationFailure(violatedSchema, keyword, schemaLocation, path.prepend(fragment), message, causes,
+                exception);
+    }
+
+    ValidationException toException() {
+        if (exception != null) {
+            return path.isRoot() ? exception : exception.prependAll(path, violatedSchema);
+        }
+        List<ValidationException> causingExceptions = toExceptions(causes);
+        return new ValidationException(path, violatedSchema, message.apply(causingExceptions), causingExceptions,
+                keyword, schemaLocation);
+    }
+}
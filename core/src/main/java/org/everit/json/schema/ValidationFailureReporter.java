@@ -2,39 +2,127 @@ package org.everit.json.schema;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.function.Function;
+
+import org.everit.json.schema.i18n.MessageCatalog;
+
 /**
- * Internal interface receiving validation failures. Implementations are supposed to throw or collect {@link ValidationException} instances.
+ * Internal interface receiving validation failures. Implementations are supposed to throw or collect
+ * {@link ValidationFailure} instances, which are turned into {@link ValidationException}s only when they leave the
+ * validation.
  * <p>
  * The validation always happens in the context of some "current schema". This {@link Schema} instance will
  * be the {@link ValidationException#getViolatedSchema() violated schema} of the {@code ValidationException}s created.
  * </p>
+ * <p>
+ * The messages of the reported failures are looked up in the {@link MessageCatalog} of the reporter.
+ * </p>
  */
 abstract class ValidationFailureReporter {
 
     protected Schema schema;
 
+    protected final MessageCatalog messageCatalog;
+
     ValidationFailureReporter(Schema schema) {
+        this(schema, MessageCatalog.DEFAULT);
+    }
+
+    ValidationFailureReporter(Schema schema, MessageCatalog messageCatalog) {
         this.schema = requireNonNull(schema, "schema cannot be null");
+        this.messageCatalog = requireNonNull(messageCatalog, "messageCatalog cannot be null");
     }
 
     void failure(String message, String keyword) {
-        failure(new ValidationException(schema, message, keyword, schema.getSchemaLocation()));
+        failure(ValidationFailure.ofMessage(schema, keyword, message));
+    }
+
+    /**
+     * Reports a failure of the current schema with a message which is only computed (from the message catalog of the
+     * reporter) if the failure is turned into a {@link ValidationException}.
+     */
+    void failure(Function<MessageCatalog, String> message, String keyword) {
+        failure(ValidationFailure.ofMessage(schema, keyword, messageCatalog, message));
     }
 
     void failure(Class<?> expectedType, Object actualValue) {
-        failure(new ValidationException(schema, expectedType, actualValue, "type", schema.getSchemaLocation()));
+        failure(ValidationFailure.ofType(schema, messageCatalog, expectedType, actualValue));
     }
 
-    abstract void failure(ValidationException exc);
+    /**
+     * Reports a failure of the current schema with the message denoted by {@code messageKey}. The message is only
+     * looked up and formatted if the failure is turned into a {@link ValidationException}.
+     */
+    void keywordFailure(String keyword, String messageKey, Object... messageArgs) {
+        failure(ValidationFailure.ofKeyword(schema, keyword, messageCatalog, messageKey, messageArgs));
+    }
 
-    ValidationException inContextOfSchema(Schema schema, Runnable task) {
+    /**
+     * Reports the failure of a subschema, which validated the {@code pointerFragment} part of the current subject.
+     */
+    void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment) {
+        failure(subschemaFailure.prepend(pointerFragment));
+    }
+
+    void subschemaFailure(ValidationFailure subschemaFailure, String pointerFragment, Schema violatedSchema) {
+        failure(subschemaFailure.prepend(pointerFragment, violatedSchema));
+    }
+
+    /**
+     * Reports a failure of the current schema, which is caused by the failures of some of its subschemas.
+     */
+    void failureWithCauses(String keyword, String messageKey, List<ValidationFailure> causes) {
+        failure(ValidationFailure.ofCauses(schema, keyword, messageCatalog, messageKey, causes));
+    }
+
+    /**
+     * Checks if {@code criterion} is satisfied by the {@code matchingCount} matching subschemas, and reports a failure
+     * of the current (combined) schema if it isn't.
+     */
+    void validateCriterion(CombinedSchema.ValidationCriterion criterion, int subschemaCount, int matchingCount,
+            List<ValidationFailure> failures) {
+        try {
+            criterion.validate(subschemaCount, matchingCount, messageCatalog);
+        } catch (ValidationException e) {
+            failure(ValidationFailure.ofCauses(schema, e.getKeyword(), causes -> e.getMessage(), failures));
+        }
+    }
+
+    /**
+     * Returns {@code true} if the validation stops at the first failure, so it is enough to find a single failure
+     * instead of all of them.
+     */
+    boolean isFailingEarly() {
+        return false;
+    }
+
+    void failure(ValidationException exc) {
+        failure(ValidationFailure.of(exc));
+    }
+
+    abstract void failure(ValidationFailure failure);
+
+    /**
+     * Runs {@code task} in the context of {@code schema}, and returns the failure found by it, or {@code null} if
+     * {@code task} didn't report any failures.
+     */
+    ValidationFailure failureOfSchema(Schema schema, Runnable task) {
         requireNonNull(schema, "schema cannot be null");
         Schema origSchema = this.schema;
         this.schema = schema;
-        task.run();
-        this.schema = origSchema;
+        try {
+            task.run();
+        } finally {
+            this.schema = origSchema;
+        }
         return null;
     }
 
+    ValidationException inContextOfSchema(Schema schema, Runnable task) {
+        ValidationFailure failure = failureOfSchema(schema, task);
+        return failure == null ? null : failure.toException();
+    }
+
     abstract void validationFinished();
 }
@@ -1,8 +1,11 @@
 package org.everit.json.schema;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.function.BiFunction;
 
 import org.everit.json.schema.event.ValidationListener;
+import org.everit.json.schema.i18n.MessageCatalog;
 
 public interface Validator {
 
@@ -14,6 +17,8 @@ public interface Validator {
 
         private ValidationListener validationListener = ValidationListener.NOOP;
 
+        private MessageCatalog messageCatalog = MessageCatalog.DEFAULT;
+
         public ValidatorBuilder failEarly() {
             this.failEarly = true;
             return this;
@@ -29,8 +34,21 @@ public interface Validator {
             return this;
         }
 
+        /**
+         * Sets the catalog of the messages of the {@link ValidationException}s thrown by the built validator. The
+         * default is {@link MessageCatalog#DEFAULT}.
+         *
+         * @param messageCatalog
+         *         the message catalog, e.g. {@link MessageCatalog#forLocale(java.util.Locale)}
+         * @return {@code this}
+         */
+        public ValidatorBuilder messageCatalog(MessageCatalog messageCatalog) {
+            this.messageCatalog = requireNonNull(messageCatalog, "messageCatalog cannot be null");
+            return this;
+        }
+
         public Validator build() {
-            return new DefaultValidator(failEarly, readWriteContext, validationListener);
+            return new DefaultValidator(failEarly, readWriteContext, validationListener, messageCatalog);
         }
 
     }
@@ -40,6 +58,29 @@ public interface Validator {
     }
 
     void performValidation(Schema schema, Object input);
+
+    /**
+     * Checks if {@code input} is valid against {@code schema}, without describing the failures.
+     * <p>
+     * This is a faster alternative of {@link #performValidation(Schema, Object)} if the only question is whether the
+     * input is valid: the validation stops at the first failure, and no {@link ValidationException} or failure message
+     * is created. The {@link ValidationListener} of the validator isn't notified.
+     * </p>
+     *
+     * @param schema
+     *         the schema to validate against
+     * @param input
+     *         the object to be validated
+     * @return {@code true} if {@code input} is valid against {@code schema}
+     */
+    default boolean isValid(Schema schema, Object input) {
+        try {
+            performValidation(schema, input);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
 }
 
 class DefaultValidator implements Validator {
@@ -52,14 +93,18 @@ class DefaultValidator implements Validator {
 
     private final ValidationListener validationListener;
 
+    private final MessageCatalog messageCatalog;
+
     DefaultValidator(boolean failEarly, ReadWriteContext readWriteContext) {
-        this(failEarly, readWriteContext, null);
+        this(failEarly, readWriteContext, null, MessageCatalog.DEFAULT);
     }
 
-    DefaultValidator(boolean failEarly, ReadWriteContext readWriteContext, ValidationListener validationListener) {
+    DefaultValidator(boolean failEarly, ReadWriteContext readWriteContext, ValidationListener validationListener,
+            MessageCatalog messageCatalog) {
         this.failEarly = failEarly;
         this.readWriteContext = readWriteContext;
         this.validationListener = validationListener;
+        this.messageCatalog = messageCatalog;
     }
 
     @Override public void performValidation(Schema schema, Object input) {
@@ -70,10 +115,18 @@ class DefaultValidator implements Validator {
         visitor.failIfErrorFound();
     }
 
+    @Override public boolean isValid(Schema schema, Object input) {
+        BooleanFailureReporter failureReporter = new BooleanFailureReporter(schema, messageCatalog);
+        ReadWriteValidator readWriteValidator = ReadWriteValidator.createForContext(readWriteContext, failureReporter);
+        ValidatingVisitor visitor = new ValidatingVisitor(input, failureReporter, readWriteValidator,
+                ValidationListener.NOOP);
+        return failureReporter.isValid(() -> visitor.visit(schema));
+    }
+
     private ValidationFailureReporter createFailureReporter(Schema schema) {
         if (failEarly) {
-            return new EarlyFailingFailureReporter(schema);
+            return new EarlyFailingFailureReporter(schema, messageCatalog);
         }
-        return new CollectingFailureReporter(schema);
+        return new CollectingFailureReporter(schema, messageCatalog);
     }
 }
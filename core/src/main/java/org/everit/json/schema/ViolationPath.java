@@ -0,0 +1,80 @@
+package org.everit.json.schema;
+
+import static java.util.Objects.requireNonNull;
+import static org.everit.json.schema.JSONPointer.escape;
+
+import java.io.Serializable;
+
+/**
+ * Immutable, persistent representation of a JSON pointer denoting a violation.
+ * <p>
+ * Each instance is a single (unescaped) token and a reference to the rest of the path. Prepending a token creates a
+ * new instance which shares the rest of the path, so pointers can be built while the validation unwinds, without
+ * copying. The pointer string is only rendered on demand.
+ * </p>
+ * <p>
+ * The last element of the list is a root, which holds an already rendered pointer ({@code "#"} by default), and tokens
+ * are inserted right after its first character when rendering.
+ * </p>
+ */
+final class ViolationPath implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final ViolationPath ROOT = new ViolationPath("#", null);
+
+    /**
+     * Creates a root path which is rendered as {@code pointer}.
+     */
+    static ViolationPath of(String pointer) {
+        return "#".equals(pointer) ? ROOT : new ViolationPath(pointer, null);
+    }
+
+    private final String token;
+
+    private final ViolationPath next;
+
+    private ViolationPath(String token, ViolationPath next) {
+        this.token = token;
+        this.next = next;
+    }
+
+    ViolationPath prepend(String token) {
+        return new ViolationPath(requireNonNull(token, "fragment cannot be null"), this);
+    }
+
+    /**
+     * Creates the path denoted by {@code suffix} relative to this path. The root of this path is ignored.
+     */
+    ViolationPath concat(ViolationPath suffix) {
+        if (isRoot()) {
+            return suffix;
+        }
+        return new ViolationPath(token, next.concat(suffix));
+    }
+
+    boolean isRoot() {
+        return next == null;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    ViolationPath getNext() {
+        return next;
+    }
+
+    @Override public String toString() {
+        if (isRoot()) {
+            return token;
+        }
+        StringBuilder sb = new StringBuilder();
+        ViolationPath path = this;
+        for (; !path.isRoot(); path = path.next) {
+            sb.append('/').append(escape(path.token));
+        }
+        String root = path.token;
+        return sb.insert(0, root.charAt(0)).append(root, 1, root.length()).toString();
+    }
+}
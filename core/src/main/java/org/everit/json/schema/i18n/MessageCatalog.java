@@ -0,0 +1,234 @@
+package org.everit.json.schema.i18n;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Formattable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable catalog of the validation failure messages of a locale.
+ * <p>
+ * The message templates of the {@code MessageBundle} resource bundle are read and parsed once, when the catalog is
+ * created. Formatting a message then only concatenates the literal parts of the template with the arguments, instead
+ * of parsing the template by {@link String#format(String, Object...)} each time. Templates can use the {@code %s},
+ * {@code %n$s} and {@code %n$d} specifiers. Templates with any other specifier are formatted by
+ * {@link String#format(String, Object...)}.
+ * </p>
+ * <p>
+ * Catalogs are thread-safe, and the catalog of a locale is {@link #forLocale(Locale) created only once}. The catalog
+ * used for the failure messages of a validation is configured by
+ * {@link org.everit.json.schema.Validator.ValidatorBuilder#messageCatalog(MessageCatalog)}.
+ * </p>
+ */
+public final class MessageCatalog {
+
+    private static final String BUNDLE_NAME = "MessageBundle";
+
+    private static final Map<Locale, MessageCatalog> CATALOGS_BY_LOCALE = new ConcurrentHashMap<>();
+
+    /**
+     * The catalog of the {@code en_US} locale, used if no catalog is configured.
+     */
+    public static final MessageCatalog DEFAULT = forLocale(new Locale("en", "US"));
+
+    /**
+     * Returns the catalog of the messages of {@code locale}, loading it on first use.
+     *
+     * @param locale
+     *         the locale of the messages
+     * @return the catalog of the {@code MessageBundle} resource bundle of {@code locale}
+     * @throws MissingResourceException
+     *         if no resource bundle can be found for {@code locale}
+     */
+    public static MessageCatalog forLocale(Locale locale) {
+        requireNonNull(locale, "locale cannot be null");
+        return CATALOGS_BY_LOCALE.computeIfAbsent(locale, l -> of(ResourceBundle.getBundle(BUNDLE_NAME, l)));
+    }
+
+    /**
+     * Creates a catalog of the messages of {@code bundle}. Each call parses all the templates of {@code bundle}, so
+     * the returned catalog should be reused.
+     *
+     * @param bundle
+     *         the resource bundle containing the message templates
+     * @return the catalog of the messages of {@code bundle}
+     */
+    public static MessageCatalog of(ResourceBundle bundle) {
+        requireNonNull(bundle, "bundle cannot be null");
+        Map<String, Template> templates = new HashMap<>();
+        Enumeration<String> keys = bundle.getKeys();
+        while (keys.hasMoreElements()) {
+            String key = keys.nextElement();
+            templates.put(key, Template.parse(bundle.getString(key)));
+        }
+        return new MessageCatalog(bundle.getLocale(), templates);
+    }
+
+    /**
+     * A message template, split into its literal parts and the arguments between them.
+     */
+    private static final class Template {
+
+        private static final int MAX_INDEX_DIGITS = 4;
+
+        private static Template parse(String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> argIndexes = new ArrayList<>();
+            StringBuilder conversions = new StringBuilder();
+            int implicitIndex = 0;
+            int literalStart = 0;
+            int index = pattern.indexOf('%');
+            while (index >= 0) {
+                int argIndex;
+                int conversionIndex = index + 1;
+                while (conversionIndex < pattern.length() && isDigit(pattern.charAt(conversionIndex))) {
+                    ++conversionIndex;
+                }
+                if (conversionIndex == index + 1) {
+                    argIndex = implicitIndex++;
+                } else if (conversionIndex - index <= MAX_INDEX_DIGITS && conversionIndex < pattern.length()
+                        && pattern.charAt(conversionIndex) == '$') {
+                    argIndex = Integer.parseInt(pattern.substring(index + 1, conversionIndex)) - 1;
+                    ++conversionIndex;
+                } else {
+                    return new Template(pattern);
+                }
+                char conversion = conversionIndex < pattern.length() ? pattern.charAt(conversionIndex) : 0;
+                if (argIndex < 0 || (conversion != 's' && conversion != 'd')) {
+                    return new Template(pattern);
+                }
+                literals.add(pattern.substring(literalStart, index));
+                argIndexes.add(argIndex);
+                conversions.append(conversion);
+                literalStart = conversionIndex + 1;
+                index = pattern.indexOf('%', literalStart);
+            }
+            literals.add(pattern.substring(literalStart));
+            int[] indexes = new int[argIndexes.size()];
+            for (int i = 0; i < indexes.length; ++i) {
+                indexes[i] = argIndexes.get(i);
+            }
+            return new Template(pattern, literals.toArray(new String[0]), indexes, conversions.toString().toCharArray());
+        }
+
+        private static boolean isDigit(char ch) {
+            return ch >= '0' && ch <= '9';
+        }
+
+        private final String pattern;
+
+        /**
+         * The literal parts of the template, or {@code null} if the template is formatted by
+         * {@link String#format(String, Object...)}. There is one more literal part than argument.
+         */
+        private final String[] literals;
+
+        private final int[] argIndexes;
+
+        private final char[] conversions;
+
+        private Template(String pattern) {
+            this(pattern, null, null, null);
+        }
+
+        private Template(String pattern, String[] literals, int[] argIndexes, char[] conversions) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.argIndexes = argIndexes;
+            this.conversions = conversions;
+        }
+
+        String format(Object[] args) {
+            if (literals == null) {
+                return String.format(pattern, args);
+            }
+            if (argIndexes.length == 0) {
+                return literals[0];
+            }
+            StringBuilder message = new StringBuilder(pattern.length() + 16 * argIndexes.length);
+            for (int i = 0; i < argIndexes.length; ++i) {
+                message.append(literals[i]);
+                int argIndex = argIndexes[i];
+                if (argIndex >= args.length) {
+                    return String.format(pattern, args);
+                }
+                Object arg = args[argIndex];
+                if (arg instanceof Formattable || (conversions[i] == 'd' && arg != null && !isIntegral(arg))) {
+                    return String.format(pattern, args);
+                }
+                message.append(arg);
+            }
+            return message.append(literals[argIndexes.length]).toString();
+        }
+
+        private static boolean isIntegral(Object arg) {
+            return arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte
+                    || arg instanceof BigInteger;
+        }
+    }
+
+    private final Locale locale;
+
+    private final Map<String, Template> templates;
+
+    private MessageCatalog(Locale locale, Map<String, Template> templates) {
+        this.locale = locale;
+        this.templates = Collections.unmodifiableMap(templates);
+    }
+
+    /**
+     * @return the locale of the messages of this catalog
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the (unformatted) template of the message denoted by {@code key}.
+     *
+     * @param key
+     *         the key of the message
+     * @return the message template
+     * @throws MissingResourceException
+     *         if the catalog doesn't contain {@code key}
+     */
+    public String getString(String key) {
+        return template(key).pattern;
+    }
+
+    /**
+     * Formats the message denoted by {@code key} with {@code args}. The result is the same as
+     * {@code String.format(getString(key), args)}.
+     *
+     * @param key
+     *         the key of the message
+     * @param args
+     *         the arguments referenced by the specifiers of the template
+     * @return the formatted message
+     * @throws MissingResourceException
+     *         if the catalog doesn't contain {@code key}
+     */
+    public String format(String key, Object... args) {
+        return template(key).format(args);
+    }
+
+    private Template template(String key) {
+        Template template = templates.get(requireNonNull(key, "key cannot be null"));
+        if (template == null) {
+            throw new MissingResourceException("Can't find message for key " + key, MessageCatalog.class.getName(),
+                    key);
+        }
+        return template;
+    }
+
+}
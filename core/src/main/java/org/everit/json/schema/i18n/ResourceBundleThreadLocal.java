@@ -17,6 +17,13 @@ package org.everit.json.schema.i18n;
 
 import java.util.ResourceBundle;
 
+/**
+ * Holder of the resource bundle of the current thread.
+ *
+ * @deprecated the validation no longer reads the messages from a thread-local resource bundle. Configure the locale of
+ * the messages by {@link org.everit.json.schema.Validator.ValidatorBuilder#messageCatalog(MessageCatalog)} instead.
+ */
+@Deprecated
 public class ResourceBundleThreadLocal {
 
     private static final ThreadLocal<ResourceBundle> RESOURCE_BUNDLE_THREAD_LOCAL = new ThreadLocal<>();
@@ -1,6 +1,5 @@
 package org.everit.json.schema.internal;
 
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 
 /**
@@ -9,11 +8,6 @@ import java.util.Collections;
 public class DateFormatValidator extends TemporalFormatValidator {
 
     public DateFormatValidator() {
-        super(DateTimeFormatter.ISO_LOCAL_DATE, Collections.singletonList("yyyy-MM-dd").toString());
-    }
-
-    @Override
-    public String formatName() {
-        return "date";
+        super(Rfc3339::isDate, "date", Collections.singletonList("yyyy-MM-dd").toString());
     }
 }
@@ -0,0 +1,134 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Single-pass validation of e-mail addresses, without allocating.
+ * <p>
+ * The local part of an {@link #isEmail(CharSequence) e-mail address} is either a dot-atom or a quoted string (RFC
+ * 5321), of at most 64 characters. The domain is either a {@link Hostnames host name} or an address literal
+ * ({@code [192.0.2.1]} or {@code [IPv6:2001:db8::1]}).
+ * </p>
+ * <p>
+ * {@link #isIdnEmail(CharSequence) Internationalized e-mail addresses} (RFC 6531) may also contain non-ASCII
+ * characters in the local part, and their domain is an internationalized host name.
+ * </p>
+ */
+final class EmailAddresses {
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    private static final String IPV6_LITERAL_PREFIX = "IPv6:";
+
+    private static final boolean[] ATEXT_CHARS = new boolean[128];
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ++ch) {
+            ATEXT_CHARS[ch] = true;
+            ATEXT_CHARS[Character.toUpperCase(ch)] = true;
+        }
+        for (char ch = '0'; ch <= '9'; ++ch) {
+            ATEXT_CHARS[ch] = true;
+        }
+        for (char ch : "!#$%&'*+-/=?^_`{|}~".toCharArray()) {
+            ATEXT_CHARS[ch] = true;
+        }
+    }
+
+    static boolean isEmail(CharSequence str) {
+        return isEmail(str, false);
+    }
+
+    static boolean isIdnEmail(CharSequence str) {
+        return isEmail(str, true);
+    }
+
+    private static boolean isEmail(CharSequence str, boolean international) {
+        if (str == null) {
+            return false;
+        }
+        int length = str.length();
+        int at = length - 1;
+        while (at >= 0 && str.charAt(at) != '@') {
+            --at;
+        }
+        if (at <= 0 || at == length - 1 || !isLocalPart(str, at, international)) {
+            return false;
+        }
+        if (str.charAt(at + 1) == '[') {
+            return isAddressLiteral(str, at + 2, length - 1);
+        }
+        return international ? Hostnames.isIdnHostname(str, at + 1, length) : Hostnames.isHostname(str, at + 1, length);
+    }
+
+    private static boolean isLocalPart(CharSequence str, int end, boolean international) {
+        if (end > MAX_LOCAL_PART_LENGTH) {
+            return false;
+        }
+        return str.charAt(0) == '"' ? isQuotedString(str, end, international) : isDotAtom(str, end, international);
+    }
+
+    private static boolean isDotAtom(CharSequence str, int end, boolean international) {
+        boolean atomStart = true;
+        for (int i = 0; i < end; ++i) {
+            char ch = str.charAt(i);
+            if (ch == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (ch < 128 ? ATEXT_CHARS[ch] : international) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        return !atomStart;
+    }
+
+    private static boolean isQuotedString(CharSequence str, int end, boolean international) {
+        if (end < 2 || str.charAt(end - 1) != '"') {
+            return false;
+        }
+        for (int i = 1; i < end - 1; ++i) {
+            char ch = str.charAt(i);
+            if (ch == '\\') {
+                ++i;
+                if (i == end - 1 || !isQuotedPairChar(str.charAt(i), international)) {
+                    return false;
+                }
+            } else if (ch == '"' || !isQuotedPairChar(ch, international)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isQuotedPairChar(char ch, boolean international) {
+        return ch >= 128 ? international : ch >= ' ' && ch <= '~';
+    }
+
+    private static boolean isAddressLiteral(CharSequence str, int start, int end) {
+        if (end <= start || str.charAt(end) != ']') {
+            return false;
+        }
+        if (startsWith(str, start, IPV6_LITERAL_PREFIX)) {
+            return IPAddresses.isIPv6(str, start + IPV6_LITERAL_PREFIX.length(), end);
+        }
+        return IPAddresses.isIPv4(str, start, end);
+    }
+
+    private static boolean startsWith(CharSequence str, int start, String prefix) {
+        if (str.length() - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); ++i) {
+            if (str.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private EmailAddresses() {
+    }
+
+}
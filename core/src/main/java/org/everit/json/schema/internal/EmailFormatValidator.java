@@ -16,27 +16,12 @@
  */
 package org.everit.json.schema.internal;
 
-import java.util.Optional;
-
-import org.apache.commons.validator.routines.EmailValidator;
-import org.everit.json.schema.FormatValidator;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-
 /**
  * Implementation of the "email" format value.
  */
-public class EmailFormatValidator implements FormatValidator {
-
-    @Override
-    public Optional<String> validate(final String subject) {
-        if (EmailValidator.getInstance(false, true).isValid(subject)) {
-            return Optional.empty();
-        }
-        return Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.email"), subject));
-    }
+public class EmailFormatValidator extends PredicateFormatValidator {
 
-    @Override
-    public String formatName() {
-        return "email";
+    public EmailFormatValidator() {
+        super(EmailAddresses::isEmail, "format.email", "email");
     }
 }
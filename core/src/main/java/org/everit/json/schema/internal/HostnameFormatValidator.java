@@ -16,26 +16,12 @@
  */
 package org.everit.json.schema.internal;
 
-import org.apache.commons.validator.routines.DomainValidator;
-import org.everit.json.schema.FormatValidator;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-
-import java.util.Optional;
-
 /**
  * Implementation of the "hostname" format value.
  */
-public class HostnameFormatValidator implements FormatValidator {
-
-    @Override
-    public Optional<String> validate(final String subject) {
-        return DomainValidator.getInstance(true).isValid(subject) && !subject.contains("_") ?
-                Optional.empty() :
-                Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.hostname"), subject));
-    }
+public class HostnameFormatValidator extends PredicateFormatValidator {
 
-    @Override
-    public String formatName() {
-        return "hostname";
+    public HostnameFormatValidator() {
+        super(Hostnames::isHostname, "format.hostname", "hostname");
     }
 }
@@ -0,0 +1,155 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Single-pass validation of host names, without allocating.
+ * <p>
+ * {@link #isHostname(CharSequence, int, int) Host names} follow RFC 1123: dot-separated labels of 1-63 ASCII letters,
+ * digits and hyphens, not starting or ending with a hyphen, with a total length of at most 253 characters (not
+ * counting an optional trailing dot). The last label (the top-level domain) can't consist of digits only.
+ * </p>
+ * <p>
+ * {@link #isIdnHostname(CharSequence, int, int) Internationalized host names} may also contain labels of non-ASCII
+ * letters, digits and combining marks (a label can't start with a combining mark), separated by any of the label
+ * separators of IDNA. The lengths are checked in code points, since the length of the encoded (punycode) labels
+ * isn't computed.
+ * </p>
+ */
+final class Hostnames {
+
+    private static final int MAX_LENGTH = 253;
+
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private static final boolean[] ASCII_LABEL_CHARS = new boolean[128];
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ++ch) {
+            ASCII_LABEL_CHARS[ch] = true;
+            ASCII_LABEL_CHARS[Character.toUpperCase(ch)] = true;
+        }
+        for (char ch = '0'; ch <= '9'; ++ch) {
+            ASCII_LABEL_CHARS[ch] = true;
+        }
+        ASCII_LABEL_CHARS['-'] = true;
+    }
+
+    static boolean isHostname(CharSequence str) {
+        return str != null && isHostname(str, 0, str.length());
+    }
+
+    static boolean isIdnHostname(CharSequence str) {
+        return str != null && isIdnHostname(str, 0, str.length());
+    }
+
+    private static boolean isDigit(int ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    /**
+     * Checks if the {@code [start, end)} range of {@code str} is a host name.
+     */
+    static boolean isHostname(CharSequence str, int start, int end) {
+        if (end > start && str.charAt(end - 1) == '.') {
+            --end;
+        }
+        if (end == start || end - start > MAX_LENGTH) {
+            return false;
+        }
+        int labelStart = start;
+        boolean digitsOnly = true;
+        for (int i = start; i < end; ++i) {
+            char ch = str.charAt(i);
+            if (ch == '.') {
+                if (!isValidLabel(str, labelStart, i, i - labelStart)) {
+                    return false;
+                }
+                labelStart = i + 1;
+                digitsOnly = true;
+            } else if (ch >= 128 || !ASCII_LABEL_CHARS[ch]) {
+                return false;
+            } else {
+                digitsOnly &= isDigit(ch);
+            }
+        }
+        return !digitsOnly && isValidLabel(str, labelStart, end, end - labelStart);
+    }
+
+    private static boolean isValidLabel(CharSequence str, int start, int end, int length) {
+        return length > 0 && length <= MAX_LABEL_LENGTH && str.charAt(start) != '-' && str.charAt(end - 1) != '-';
+    }
+
+    private static boolean isIdnLabelSeparator(char ch) {
+        return ch == '.' || ch == '\u3002' || ch == '\uff0e' || ch == '\uff61';
+    }
+
+    /**
+     * Checks if the {@code [start, end)} range of {@code str} is an internationalized host name.
+     */
+    static boolean isIdnHostname(CharSequence str, int start, int end) {
+        if (end > start && isIdnLabelSeparator(str.charAt(end - 1))) {
+            --end;
+        }
+        if (end == start) {
+            return false;
+        }
+        int labelStart = start;
+        int labelLength = 0;
+        int length = 0;
+        boolean digitsOnly = true;
+        int i = start;
+        while (i < end) {
+            char ch = str.charAt(i);
+            if (isIdnLabelSeparator(ch)) {
+                if (!isValidLabel(str, labelStart, i, labelLength)) {
+                    return false;
+                }
+                ++i;
+                ++length;
+                labelStart = i;
+                labelLength = 0;
+                digitsOnly = true;
+                continue;
+            }
+            int codePoint = Character.codePointAt(str, i);
+            if (codePoint < 128) {
+                if (!ASCII_LABEL_CHARS[codePoint]) {
+                    return false;
+                }
+                digitsOnly &= isDigit(codePoint);
+            } else if (isIdnLabelCodePoint(codePoint, labelLength == 0)) {
+                digitsOnly = false;
+            } else {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+            ++labelLength;
+            ++length;
+        }
+        return !digitsOnly && length <= MAX_LENGTH && isValidLabel(str, labelStart, end, labelLength);
+    }
+
+    private static boolean isIdnLabelCodePoint(int codePoint, boolean atLabelStart) {
+        if (codePoint == '\u302e' || codePoint == '\u302f') {
+            // Hangul tone marks, disallowed by IDNA2008
+            return false;
+        }
+        switch (Character.getType(codePoint)) {
+        case Character.LOWERCASE_LETTER:
+        case Character.UPPERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.DECIMAL_DIGIT_NUMBER:
+            return true;
+        case Character.NON_SPACING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+            return !atLabelStart;
+        default:
+            return false;
+        }
+    }
+
+    private Hostnames() {
+    }
+
+}
@@ -11,15 +11,15 @@ import java.util.Optional;
 public class IPAddressValidator {
 
     /**
-     * Creates an {@link InetAddress} instance if possible and returns it, or on failure it returns
-     * {@code Optional.empty()}.
+     * Creates an {@link InetAddress} instance if {@code subject} is an IP address literal and returns it, or on failure
+     * it returns {@code Optional.empty()}. Host names are never resolved.
      *
      * @param subject
      *         the string to be validated.
      * @return the optional validation failure message
      */
     protected Optional<InetAddress> asInetAddress(final String subject) {
-        if (subject == null)
+        if (!IPAddresses.isIPv4(subject) && !IPAddresses.isIPv6(subject))
             return Optional.empty();
 
         try {
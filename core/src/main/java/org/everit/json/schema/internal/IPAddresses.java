@@ -0,0 +1,119 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Single-pass parsers of IP address literals, without allocating or resolving names.
+ * <p>
+ * {@link #isIPv4(CharSequence) IPv4 addresses} are accepted in dotted-quad notation only: four decimal octets between
+ * 0 and 255, without leading zeros. {@link #isIPv6(CharSequence) IPv6 addresses} are accepted in any of the text
+ * forms of RFC 4291 (full, {@code ::}-compressed, with an embedded dotted-quad IPv4 address), without a zone index.
+ * </p>
+ */
+final class IPAddresses {
+
+    private static final int IPV4_OCTETS = 4;
+
+    private static final int IPV6_GROUPS = 8;
+
+    private static final int MAX_IPV6_GROUP_DIGITS = 4;
+
+    static boolean isIPv4(CharSequence str) {
+        return str != null && isIPv4(str, 0, str.length());
+    }
+
+    static boolean isIPv6(CharSequence str) {
+        return str != null && isIPv6(str, 0, str.length());
+    }
+
+    private static int digitValue(char ch) {
+        return ch >= '0' && ch <= '9' ? ch - '0' : -1;
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+
+    /**
+     * Checks if the {@code [start, end)} range of {@code str} is a dotted-quad IPv4 address.
+     */
+    static boolean isIPv4(CharSequence str, int start, int end) {
+        int octets = 0;
+        int i = start;
+        while (true) {
+            int octetStart = i;
+            int value = 0;
+            int digit;
+            while (i < end && (digit = digitValue(str.charAt(i))) >= 0) {
+                value = value * 10 + digit;
+                if (++i - octetStart > 3) {
+                    return false;
+                }
+            }
+            int digits = i - octetStart;
+            if (digits == 0 || value > 255 || (digits > 1 && str.charAt(octetStart) == '0')) {
+                return false;
+            }
+            if (++octets == IPV4_OCTETS) {
+                return i == end;
+            }
+            if (i == end || str.charAt(i) != '.') {
+                return false;
+            }
+            ++i;
+        }
+    }
+
+    /**
+     * Checks if the {@code [start, end)} range of {@code str} is an IPv6 address.
+     */
+    static boolean isIPv6(CharSequence str, int start, int end) {
+        if (end - start < 2) {
+            return false;
+        }
+        int groups = 0;
+        boolean compressed = false;
+        int i = start;
+        if (str.charAt(i) == ':') {
+            if (str.charAt(i + 1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i += 2;
+        }
+        while (i < end) {
+            int groupStart = i;
+            while (i < end && isHexDigit(str.charAt(i))) {
+                ++i;
+            }
+            int digits = i - groupStart;
+            if (i < end && str.charAt(i) == '.') {
+                // the last 32 bits in dotted-quad notation
+                return hasGroupCount(groups + 2, compressed) && isIPv4(str, groupStart, end);
+            }
+            if (digits == 0 || digits > MAX_IPV6_GROUP_DIGITS || ++groups > IPV6_GROUPS) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            if (str.charAt(i) != ':' || ++i == end) {
+                return false;
+            }
+            if (str.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                ++i;
+            }
+        }
+        return hasGroupCount(groups, compressed);
+    }
+
+    private static boolean hasGroupCount(int groups, boolean compressed) {
+        return compressed ? groups < IPV6_GROUPS : groups == IPV6_GROUPS;
+    }
+
+    private IPAddresses() {
+    }
+
+}
@@ -16,8 +16,7 @@
  */
 package org.everit.json.schema.internal;
 
-import org.apache.commons.validator.routines.InetAddressValidator;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.everit.json.schema.FormatValidator;
 
 import java.util.Optional;
@@ -29,9 +28,22 @@ public class IPV4Validator extends IPAddressValidator implements FormatValidator
 
     @Override
     public Optional<String> validate(final String subject) {
-        return InetAddressValidator.getInstance().isValidInet4Address(subject) ?
-                Optional.empty() :
-                Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.ipv4"), subject));
+        return isValid(subject) ? Optional.empty() : Optional.of(failureMessage(subject));
+    }
+
+    @Override
+    public boolean isValid(CharSequence subject) {
+        return IPAddresses.isIPv4(subject);
+    }
+
+    @Override
+    public String failureMessage(CharSequence subject) {
+        return failureMessage(subject, MessageCatalog.DEFAULT);
+    }
+
+    @Override
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        return catalog.format("format.ipv4", subject);
     }
 
     @Override
@@ -0,0 +1,11 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Implementation of the "iri" format value.
+ */
+public class IRIFormatValidator extends PredicateFormatValidator {
+
+    public IRIFormatValidator() {
+        super(Rfc3986::isIri, "format.iri", "iri");
+    }
+}
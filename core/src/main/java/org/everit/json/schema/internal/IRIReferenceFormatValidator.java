@@ -0,0 +1,11 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Implementation of the "iri-reference" format value.
+ */
+public class IRIReferenceFormatValidator extends PredicateFormatValidator {
+
+    public IRIReferenceFormatValidator() {
+        super(Rfc3986::isIriReference, "format.iri-reference", "iri-reference");
+    }
+}
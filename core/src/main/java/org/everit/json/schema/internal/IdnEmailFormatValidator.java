@@ -0,0 +1,11 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Implementation of the "idn-email" format value.
+ */
+public class IdnEmailFormatValidator extends PredicateFormatValidator {
+
+    public IdnEmailFormatValidator() {
+        super(EmailAddresses::isIdnEmail, "format.idn-email", "idn-email");
+    }
+}
@@ -0,0 +1,11 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Implementation of the "idn-hostname" format value.
+ */
+public class IdnHostnameFormatValidator extends PredicateFormatValidator {
+
+    public IdnHostnameFormatValidator() {
+        super(Hostnames::isIdnHostname, "format.idn-hostname", "idn-hostname");
+    }
+}
@@ -16,33 +16,29 @@
  */
 package org.everit.json.schema.internal;
 
-import static java.lang.String.format;
-
 import java.util.Optional;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
-import org.everit.json.schema.JSONPointer;
+import org.everit.json.schema.i18n.MessageCatalog;
 
-public class JsonPointerFormatValidator implements FormatValidator {
+public class JsonPointerFormatValidator extends PredicateFormatValidator {
 
-    @Override public Optional<String> validate(String subject) {
-        if ("".equals(subject)) {
-            return Optional.empty();
-        }
-        try {
-            new JSONPointer(subject);
-            if (subject.startsWith("#")) {
-                return failure(subject);
-            }
-            return checkEscaping(subject);
-        } catch (IllegalArgumentException e) {
-            return failure(subject);
+    private final boolean failureOverridden = isOverriddenBelow(getClass(), JsonPointerFormatValidator.class, "failure",
+            String.class);
+
+    public JsonPointerFormatValidator() {
+        super(JsonPointers::isJsonPointer, "format.json-pointer", "json-pointer");
+    }
+
+    @Override
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        if (failureOverridden) {
+            return failure(subject == null ? null : subject.toString()).get();
         }
+        return super.failureMessage(subject, catalog);
     }
 
     protected Optional<String> failure(String subject) {
-        return Optional.of(format(ResourceBundleThreadLocal.get().getString("format.json-pointer"), subject));
+        return Optional.of(super.failureMessage(subject, MessageCatalog.DEFAULT));
     }
 
     protected Optional<String> checkEscaping(String subject) {
@@ -61,8 +57,4 @@ public class JsonPointerFormatValidator implements FormatValidator {
         }
         return Optional.empty();
     }
-
-    @Override public String formatName() {
-        return "json-pointer";
-    }
 }
@@ -0,0 +1,60 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Parsers of JSON pointers (RFC 6901) and relative JSON pointers, scanning the checked string once, without
+ * allocating or throwing.
+ * <p>
+ * A {@link #isJsonPointer(CharSequence) JSON pointer} is either empty or a sequence of {@code /}-prefixed reference
+ * tokens, in which {@code ~} is only permitted as part of the {@code ~0} and {@code ~1} escapes. A
+ * {@link #isRelativeJsonPointer(CharSequence) relative JSON pointer} is a non-negative integer (without leading zeros)
+ * followed by a JSON pointer, optionally terminated by {@code #}. The {@code #} character can't occur elsewhere in a
+ * relative JSON pointer.
+ * </p>
+ */
+final class JsonPointers {
+
+    static boolean isJsonPointer(CharSequence str) {
+        return str != null && isJsonPointer(str, 0, str.length());
+    }
+
+    static boolean isRelativeJsonPointer(CharSequence str) {
+        if (str == null) {
+            return false;
+        }
+        int length = str.length();
+        int index = 0;
+        while (index < length && str.charAt(index) >= '0' && str.charAt(index) <= '9') {
+            ++index;
+        }
+        if (index == 0 || (index > 1 && str.charAt(0) == '0')) {
+            return false;
+        }
+        int pointerEnd = index;
+        while (pointerEnd < length && str.charAt(pointerEnd) != '#') {
+            ++pointerEnd;
+        }
+        return pointerEnd >= length - 1 && isJsonPointer(str, index, pointerEnd);
+    }
+
+    /**
+     * Checks if the {@code [start, end)} range of {@code str} is a JSON pointer.
+     */
+    private static boolean isJsonPointer(CharSequence str, int start, int end) {
+        if (start < end && str.charAt(start) != '/') {
+            return false;
+        }
+        for (int i = start; i < end; ++i) {
+            if (str.charAt(i) == '~') {
+                ++i;
+                if (i == end || (str.charAt(i) != '0' && str.charAt(i) != '1')) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private JsonPointers() {
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Original work Copyright (C) 2011 Everit Kft. (http://www.everit.org)
+ * Modified work Copyright (c) 2019 Isaias Arellano - isaias.arellano.delgado@gmail.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.everit.json.schema.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.everit.json.schema.FormatValidator;
+import org.everit.json.schema.i18n.MessageCatalog;
+
+/**
+ * Base class of the built-in format validators checking the subject by a predicate, and reporting a failure message
+ * which receives the subject as its only argument.
+ */
+abstract class PredicateFormatValidator implements FormatValidator {
+
+    /**
+     * Checks if {@code cls} or one of its superclasses below {@code base} declares the method {@code name}, so that
+     * the validators with protected hooks call them only if a subclass overrides them.
+     */
+    static boolean isOverriddenBelow(Class<?> cls, Class<?> base, String name, Class<?>... parameterTypes) {
+        for (Class<?> current = cls; current != base; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not declared by this class, check its superclass
+            }
+        }
+        return false;
+    }
+
+    private final Predicate<CharSequence> predicate;
+
+    private final String messageKey;
+
+    private final String formatName;
+
+    PredicateFormatValidator(Predicate<CharSequence> predicate, String messageKey, String formatName) {
+        this.predicate = requireNonNull(predicate, "predicate cannot be null");
+        this.messageKey = requireNonNull(messageKey, "messageKey cannot be null");
+        this.formatName = requireNonNull(formatName, "formatName cannot be null");
+    }
+
+    @Override
+    public Optional<String> validate(final String subject) {
+        return isValid(subject) ? Optional.empty() : Optional.of(failureMessage(subject));
+    }
+
+    @Override
+    public boolean isValid(CharSequence subject) {
+        return subject != null && predicate.test(subject);
+    }
+
+    @Override
+    public String failureMessage(CharSequence subject) {
+        return failureMessage(subject, MessageCatalog.DEFAULT);
+    }
+
+    @Override
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        return catalog.format(messageKey, subject);
+    }
+
+    @Override
+    public String formatName() {
+        return formatName;
+    }
+}
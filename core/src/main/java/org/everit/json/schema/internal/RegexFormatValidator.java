@@ -16,25 +16,50 @@
  */
 package org.everit.json.schema.internal;
 
-import java.util.Optional;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
+public class RegexFormatValidator extends PredicateFormatValidator {
 
-public class RegexFormatValidator implements FormatValidator {
+    static final int MAX_CACHED_PATTERNS = 4096;
 
-    @Override public Optional<String> validate(String subject) {
-        try {
-            Pattern.compile(subject);
-        } catch (PatternSyntaxException e) {
-            return Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.regex"), subject));
+    /**
+     * The validity of the recently validated patterns, so a pattern occurring many times is compiled only once, even
+     * if it is invalid. When the cache is full, arbitrary entries are evicted to make room for new ones.
+     */
+    private static final Map<String, Boolean> PATTERN_VALIDITY = new ConcurrentHashMap<>();
+
+    static boolean isValidPattern(String pattern) {
+        Boolean valid = PATTERN_VALIDITY.get(pattern);
+        if (valid == null) {
+            try {
+                Pattern.compile(pattern);
+                valid = Boolean.TRUE;
+            } catch (PatternSyntaxException e) {
+                valid = Boolean.FALSE;
+            }
+            evictIfFull();
+            PATTERN_VALIDITY.put(pattern, valid);
+        }
+        return valid;
+    }
+
+    private static void evictIfFull() {
+        Iterator<String> patterns = PATTERN_VALIDITY.keySet().iterator();
+        while (PATTERN_VALIDITY.size() >= MAX_CACHED_PATTERNS && patterns.hasNext()) {
+            patterns.next();
+            patterns.remove();
         }
-        return Optional.empty();
     }
 
-    @Override public String formatName() {
-        return "regex";
+    static int cachedPatternCount() {
+        return PATTERN_VALIDITY.size();
+    }
+
+    public RegexFormatValidator() {
+        super(subject -> isValidPattern(subject.toString()), "format.regex", "regex");
     }
 }
@@ -0,0 +1,142 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Parsers of the {@code full-date}, {@code full-time} and {@code date-time} productions of RFC 3339, scanning the
+ * checked string once, without allocating or throwing.
+ * <p>
+ * Field ranges are validated, including the days of the months in leap years, and time offsets. A leap second
+ * ({@code 60}) is only accepted at the end of the day in UTC. The {@code T} and {@code Z} characters may be lower
+ * case, as permitted by the RFC. The fraction of the second is limited to 9 digits (nanosecond precision).
+ * </p>
+ */
+final class Rfc3339 {
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int LAST_MINUTE_OF_DAY = MINUTES_PER_DAY - 1;
+
+    static boolean isDate(CharSequence str) {
+        return str.length() == 10 && isFullDateAt(str, 0);
+    }
+
+    static boolean isTime(CharSequence str) {
+        return fullTimeEnd(str, 0) == str.length();
+    }
+
+    static boolean isDateTime(CharSequence str) {
+        if (str.length() < 11 || !isFullDateAt(str, 0)) {
+            return false;
+        }
+        char separator = str.charAt(10);
+        return (separator == 'T' || separator == 't') && fullTimeEnd(str, 11) == str.length();
+    }
+
+    private static boolean isLeapYear(int year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static int digitAt(CharSequence str, int index) {
+        char ch = str.charAt(index);
+        return ch >= '0' && ch <= '9' ? ch - '0' : -1;
+    }
+
+    /**
+     * Returns the value of the 2 digits at {@code index}, or {@code -1} if there aren't 2 digits there.
+     */
+    private static int twoDigitsAt(CharSequence str, int index) {
+        int tens = digitAt(str, index);
+        int ones = digitAt(str, index + 1);
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+    }
+
+    private static boolean isFullDateAt(CharSequence str, int index) {
+        if (str.length() < index + 10 || str.charAt(index + 4) != '-' || str.charAt(index + 7) != '-') {
+            return false;
+        }
+        int century = twoDigitsAt(str, index);
+        int yearOfCentury = twoDigitsAt(str, index + 2);
+        int month = twoDigitsAt(str, index + 5);
+        int day = twoDigitsAt(str, index + 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= daysInMonth(century * 100 + yearOfCentury, month);
+    }
+
+    /**
+     * Parses a {@code full-time} starting at {@code index}, and returns the index after its end, or {@code -1} if
+     * there is no valid {@code full-time} there.
+     */
+    private static int fullTimeEnd(CharSequence str, int index) {
+        int length = str.length();
+        if (length < index + 9 || str.charAt(index + 2) != ':' || str.charAt(index + 5) != ':') {
+            return -1;
+        }
+        int hour = twoDigitsAt(str, index);
+        int minute = twoDigitsAt(str, index + 3);
+        int second = twoDigitsAt(str, index + 6);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return -1;
+        }
+        int pos = index + 8;
+        if (str.charAt(pos) == '.') {
+            int fractionStart = ++pos;
+            while (pos < length && digitAt(str, pos) >= 0) {
+                ++pos;
+            }
+            int fractionDigits = pos - fractionStart;
+            if (fractionDigits == 0 || fractionDigits > MAX_FRACTION_DIGITS || pos == length) {
+                return -1;
+            }
+        }
+        int offsetMinutes;
+        char offsetStart = str.charAt(pos);
+        if (offsetStart == 'Z' || offsetStart == 'z') {
+            offsetMinutes = 0;
+            ++pos;
+        } else if (offsetStart == '+' || offsetStart == '-') {
+            if (length < pos + 6 || str.charAt(pos + 3) != ':') {
+                return -1;
+            }
+            int offsetHour = twoDigitsAt(str, pos + 1);
+            int offsetMinute = twoDigitsAt(str, pos + 4);
+            if (offsetHour < 0 || offsetHour > 23 || offsetMinute < 0 || offsetMinute > 59) {
+                return -1;
+            }
+            offsetMinutes = offsetHour * 60 + offsetMinute;
+            if (offsetStart == '-') {
+                offsetMinutes = -offsetMinutes;
+            }
+            pos += 6;
+        } else {
+            return -1;
+        }
+        if (second == 60) {
+            int minuteOfDayInUtc = Math.floorMod(hour * 60 + minute - offsetMinutes, MINUTES_PER_DAY);
+            if (minuteOfDayInUtc != LAST_MINUTE_OF_DAY) {
+                return -1;
+            }
+        }
+        return pos;
+    }
+
+    private Rfc3339() {
+    }
+
+}
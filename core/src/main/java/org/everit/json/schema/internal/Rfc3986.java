@@ -0,0 +1,263 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Parsers of the {@code URI} and {@code URI-reference} productions of RFC 3986, and of their internationalized
+ * counterparts ({@code IRI} and {@code IRI-reference}) of RFC 3987, scanning the checked string once, without
+ * allocating or throwing.
+ * <p>
+ * Percent-encodings are checked to be followed by 2 hexadecimal digits, and IP literals in the authority are parsed
+ * with {@link IPAddresses}. The reference resolution and normalization rules of the RFCs aren't applied.
+ * </p>
+ */
+final class Rfc3986 {
+
+    private static final int UNRESERVED = 1;
+
+    private static final int SUB_DELIM = 1 << 1;
+
+    private static final int COLON = 1 << 2;
+
+    private static final int AT = 1 << 3;
+
+    private static final int SLASH = 1 << 4;
+
+    private static final int QUESTION_MARK = 1 << 5;
+
+    /**
+     * Flag of the masks permitting the {@code ucschar} characters of RFC 3987.
+     */
+    private static final int UCSCHAR = 1 << 6;
+
+    /**
+     * Flag of the masks permitting the {@code iprivate} characters of RFC 3987.
+     */
+    private static final int IPRIVATE = 1 << 7;
+
+    private static final int REG_NAME = UNRESERVED | SUB_DELIM;
+
+    private static final int USERINFO = REG_NAME | COLON;
+
+    private static final int SEGMENT_NOSCHEME = REG_NAME | AT;
+
+    private static final int PCHAR = SEGMENT_NOSCHEME | COLON;
+
+    private static final int PATH = PCHAR | SLASH;
+
+    private static final int FRAGMENT = PATH | QUESTION_MARK;
+
+    private static final int[] ASCII_CLASSES = new int[128];
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ++ch) {
+            ASCII_CLASSES[ch] = UNRESERVED;
+            ASCII_CLASSES[Character.toUpperCase(ch)] = UNRESERVED;
+        }
+        for (char ch = '0'; ch <= '9'; ++ch) {
+            ASCII_CLASSES[ch] = UNRESERVED;
+        }
+        for (char ch : "-._~".toCharArray()) {
+            ASCII_CLASSES[ch] = UNRESERVED;
+        }
+        for (char ch : "!$&'()*+,;=".toCharArray()) {
+            ASCII_CLASSES[ch] = SUB_DELIM;
+        }
+        ASCII_CLASSES[':'] = COLON;
+        ASCII_CLASSES['@'] = AT;
+        ASCII_CLASSES['/'] = SLASH;
+        ASCII_CLASSES['?'] = QUESTION_MARK;
+    }
+
+    static boolean isUri(CharSequence str) {
+        return isReference(str, 0, true);
+    }
+
+    static boolean isUriReference(CharSequence str) {
+        return isReference(str, 0, false);
+    }
+
+    static boolean isIri(CharSequence str) {
+        return isReference(str, UCSCHAR, true);
+    }
+
+    static boolean isIriReference(CharSequence str) {
+        return isReference(str, UCSCHAR, false);
+    }
+
+    private static boolean isAlpha(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    static boolean isHexDigit(char ch) {
+        return isDigit(ch) || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+
+    static boolean isPctEncodedAt(CharSequence str, int index) {
+        return index + 2 < str.length()
+                && str.charAt(index) == '%'
+                && isHexDigit(str.charAt(index + 1))
+                && isHexDigit(str.charAt(index + 2));
+    }
+
+    static boolean isUcschar(int codePoint) {
+        if (codePoint < 0x10000) {
+            return (codePoint >= 0xA0 && codePoint <= 0xD7FF)
+                    || (codePoint >= 0xF900 && codePoint <= 0xFDCF)
+                    || (codePoint >= 0xFDF0 && codePoint <= 0xFFEF);
+        }
+        return codePoint <= 0xEFFFD && (codePoint & 0xFFFF) <= 0xFFFD && (codePoint < 0xE0000 || codePoint >= 0xE1000);
+    }
+
+    static boolean isIprivate(int codePoint) {
+        return (codePoint >= 0xE000 && codePoint <= 0xF8FF)
+                || (codePoint >= 0xF0000 && (codePoint & 0xFFFF) <= 0xFFFD && codePoint <= 0x10FFFD);
+    }
+
+    /**
+     * Returns the index of the first character at or after {@code index} which isn't permitted by {@code mask}, or the
+     * length of {@code str} if there is no such character. Percent-encodings are permitted by every mask.
+     */
+    private static int componentEnd(CharSequence str, int index, int mask) {
+        int length = str.length();
+        while (index < length) {
+            char ch = str.charAt(index);
+            if (ch < 128) {
+                if ((ASCII_CLASSES[ch] & mask) != 0) {
+                    ++index;
+                } else if (isPctEncodedAt(str, index)) {
+                    index += 3;
+                } else {
+                    break;
+                }
+            } else if ((mask & UCSCHAR) != 0) {
+                int codePoint = Character.codePointAt(str, index);
+                if (isUcschar(codePoint) || ((mask & IPRIVATE) != 0 && isIprivate(codePoint))) {
+                    index += Character.charCount(codePoint);
+                } else {
+                    break;
+                }
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the colon terminating the scheme, or {@code -1} if {@code str} doesn't start with a
+     * scheme.
+     */
+    private static int schemeEnd(CharSequence str) {
+        int length = str.length();
+        if (length == 0 || !isAlpha(str.charAt(0))) {
+            return -1;
+        }
+        for (int i = 1; i < length; ++i) {
+            char ch = str.charAt(i);
+            if (ch == ':') {
+                return i;
+            }
+            if (!isAlpha(ch) && !isDigit(ch) && ch != '+' && ch != '-' && ch != '.') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isReference(CharSequence str, int ucscharFlag, boolean schemeRequired) {
+        if (str == null) {
+            return false;
+        }
+        int length = str.length();
+        int schemeEnd = schemeEnd(str);
+        if (schemeEnd < 0 && schemeRequired) {
+            return false;
+        }
+        int index = schemeEnd + 1;
+        if (index + 1 < length && str.charAt(index) == '/' && str.charAt(index + 1) == '/') {
+            index = authorityEnd(str, index + 2, ucscharFlag);
+            if (index < 0) {
+                return false;
+            }
+        } else if (schemeEnd < 0) {
+            // path-noscheme: the first segment can't contain a colon
+            index = componentEnd(str, index, SEGMENT_NOSCHEME | ucscharFlag);
+            if (index < length && str.charAt(index) == ':') {
+                return false;
+            }
+        }
+        index = componentEnd(str, index, PATH | ucscharFlag);
+        if (index < length && str.charAt(index) == '?') {
+            index = componentEnd(str, index + 1, FRAGMENT | ucscharFlag | (ucscharFlag != 0 ? IPRIVATE : 0));
+        }
+        if (index < length && str.charAt(index) == '#') {
+            index = componentEnd(str, index + 1, FRAGMENT | ucscharFlag);
+        }
+        return index == length;
+    }
+
+    /**
+     * Parses an {@code authority} starting at {@code index}, and returns the index after its end, or {@code -1} if
+     * there is no valid {@code authority} there.
+     */
+    private static int authorityEnd(CharSequence str, int index, int ucscharFlag) {
+        int length = str.length();
+        int userinfoEnd = componentEnd(str, index, USERINFO | ucscharFlag);
+        if (userinfoEnd < length && str.charAt(userinfoEnd) == '@') {
+            index = userinfoEnd + 1;
+        }
+        if (index < length && str.charAt(index) == '[') {
+            int literalEnd = index + 1;
+            while (literalEnd < length && str.charAt(literalEnd) != ']') {
+                ++literalEnd;
+            }
+            if (literalEnd == length
+                    || !(IPAddresses.isIPv6(str, index + 1, literalEnd) || isIPvFuture(str, index + 1, literalEnd))) {
+                return -1;
+            }
+            index = literalEnd + 1;
+        } else {
+            index = componentEnd(str, index, REG_NAME | ucscharFlag);
+        }
+        if (index < length && str.charAt(index) == ':') {
+            ++index;
+            while (index < length && isDigit(str.charAt(index))) {
+                ++index;
+            }
+        }
+        if (index < length) {
+            char ch = str.charAt(index);
+            if (ch != '/' && ch != '?' && ch != '#') {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    private static boolean isIPvFuture(CharSequence str, int start, int end) {
+        if (end - start < 4 || (str.charAt(start) != 'v' && str.charAt(start) != 'V')) {
+            return false;
+        }
+        int index = start + 1;
+        while (index < end && isHexDigit(str.charAt(index))) {
+            ++index;
+        }
+        if (index == start + 1 || index >= end - 1 || str.charAt(index) != '.') {
+            return false;
+        }
+        for (++index; index < end; ++index) {
+            char ch = str.charAt(index);
+            if (ch >= 128 || (ASCII_CLASSES[ch] & USERINFO) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Rfc3986() {
+    }
+
+}
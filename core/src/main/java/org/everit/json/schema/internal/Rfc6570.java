@@ -0,0 +1,143 @@
+package org.everit.json.schema.internal;
+
+/**
+ * Parser of the {@code URI-Template} production of RFC 6570 (up to level 4), scanning the checked string once, without
+ * allocating or throwing.
+ * <p>
+ * The operators reserved by the RFC for future extensions ({@code = , ! @ |}) are rejected.
+ * </p>
+ */
+final class Rfc6570 {
+
+    private static final int MAX_PREFIX_LENGTH_DIGITS = 4;
+
+    private static final boolean[] ASCII_LITERALS = new boolean[128];
+
+    static {
+        for (char ch = '!'; ch <= '~'; ++ch) {
+            ASCII_LITERALS[ch] = true;
+        }
+        for (char ch : "\"'%<>\\^`{|}".toCharArray()) {
+            ASCII_LITERALS[ch] = false;
+        }
+    }
+
+    static boolean isUriTemplate(CharSequence str) {
+        if (str == null) {
+            return false;
+        }
+        int length = str.length();
+        int index = 0;
+        while (index < length) {
+            char ch = str.charAt(index);
+            if (ch == '{') {
+                index = expressionEnd(str, index + 1);
+                if (index < 0) {
+                    return false;
+                }
+            } else if (ch < 128) {
+                if (ASCII_LITERALS[ch]) {
+                    ++index;
+                } else if (Rfc3986.isPctEncodedAt(str, index)) {
+                    index += 3;
+                } else {
+                    return false;
+                }
+            } else {
+                int codePoint = Character.codePointAt(str, index);
+                if (!Rfc3986.isUcschar(codePoint) && !Rfc3986.isIprivate(codePoint)) {
+                    return false;
+                }
+                index += Character.charCount(codePoint);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOperator(char ch) {
+        switch (ch) {
+        case '+':
+        case '#':
+        case '.':
+        case '/':
+        case ';':
+        case '?':
+        case '&':
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static boolean isVarchar(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '_';
+    }
+
+    /**
+     * Parses the rest of an {@code expression} starting at {@code index} (after its opening brace), and returns the
+     * index after its closing brace, or {@code -1} if there is no valid {@code expression} there.
+     */
+    private static int expressionEnd(CharSequence str, int index) {
+        int length = str.length();
+        if (index < length && isOperator(str.charAt(index))) {
+            ++index;
+        }
+        while (true) {
+            index = varspecEnd(str, index);
+            if (index < 0 || index == length) {
+                return -1;
+            }
+            char ch = str.charAt(index++);
+            if (ch == '}') {
+                return index;
+            } else if (ch != ',') {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Parses a {@code varspec} starting at {@code index}, and returns the index after its end, or {@code -1} if there
+     * is no valid {@code varspec} there.
+     */
+    private static int varspecEnd(CharSequence str, int index) {
+        int length = str.length();
+        boolean afterVarchar = false;
+        while (index < length) {
+            char ch = str.charAt(index);
+            if (isVarchar(ch)) {
+                ++index;
+            } else if (Rfc3986.isPctEncodedAt(str, index)) {
+                index += 3;
+            } else if (ch == '.' && afterVarchar) {
+                ++index;
+                afterVarchar = false;
+                continue;
+            } else {
+                break;
+            }
+            afterVarchar = true;
+        }
+        if (!afterVarchar || index == length) {
+            return -1;
+        }
+        char modifier = str.charAt(index);
+        if (modifier == '*') {
+            return index + 1;
+        } else if (modifier == ':') {
+            int maxLengthStart = ++index;
+            while (index < length && str.charAt(index) >= '0' && str.charAt(index) <= '9') {
+                ++index;
+            }
+            int digits = index - maxLengthStart;
+            if (digits == 0 || digits > MAX_PREFIX_LENGTH_DIGITS || str.charAt(maxLengthStart) == '0') {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    private Rfc6570() {
+    }
+
+}
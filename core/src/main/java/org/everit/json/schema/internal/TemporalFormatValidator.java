@@ -16,42 +16,24 @@
  */
 package org.everit.json.schema.internal;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
+import java.util.function.Predicate;
 
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
-import java.util.Optional;
-
-import static java.lang.String.format;
-import static java.util.Objects.requireNonNull;
+import org.everit.json.schema.i18n.MessageCatalog;
 
 /**
  * Base class for date and time format validators
  */
-public class TemporalFormatValidator implements FormatValidator {
-    final static DateTimeFormatter SECONDS_FRACTION_FORMATTER = new DateTimeFormatterBuilder()
-            .appendFraction(ChronoField.NANO_OF_SECOND, 1, 9, true)
-            .toFormatter();
-    static final String ZONE_OFFSET_PATTERN = "XXX";
+public class TemporalFormatValidator extends PredicateFormatValidator {
 
-    private final DateTimeFormatter formatter;
     private final String formatsAccepted;
 
-    TemporalFormatValidator(DateTimeFormatter formatter, String formatsAccepted) {
-        this.formatter = requireNonNull(formatter, "formatter cannot be null");
+    TemporalFormatValidator(Predicate<CharSequence> parser, String formatName, String formatsAccepted) {
+        super(parser, "format", formatName);
         this.formatsAccepted = formatsAccepted;
     }
 
     @Override
-    public Optional<String> validate(final String subject) {
-        try {
-            formatter.parse(subject);
-            return Optional.empty();
-        } catch (DateTimeParseException e) {
-            return Optional.of(format(ResourceBundleThreadLocal.get().getString("format"), subject, formatName(), formatsAccepted));
-        }
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        return catalog.format("format", subject, formatName(), formatsAccepted);
     }
 }
@@ -1,7 +1,5 @@
 package org.everit.json.schema.internal;
 
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.util.Arrays;
 import java.util.List;
 
@@ -16,25 +14,7 @@ public class TimeFormatValidator extends TemporalFormatValidator {
             "HH:mm:ss.[0-9]{1,9}[+-]HH:mm"
     ).toString();
 
-    private static final String PARTIAL_TIME_PATTERN = "HH:mm:ss";
-
-    private static final DateTimeFormatter FORMATTER;
-
-    static {
-        final DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder()
-                .appendPattern(PARTIAL_TIME_PATTERN)
-                .appendOptional(SECONDS_FRACTION_FORMATTER)
-                .appendPattern(ZONE_OFFSET_PATTERN);
-
-        FORMATTER = builder.toFormatter();
-    }
-
     public TimeFormatValidator() {
-        super(FORMATTER, FORMATS_ACCEPTED);
-    }
-
-    @Override
-    public String formatName() {
-        return "time";
+        super(Rfc3339::isTime, "time", FORMATS_ACCEPTED);
     }
 }
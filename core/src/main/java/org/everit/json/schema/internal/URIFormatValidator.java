@@ -16,40 +16,28 @@
  */
 package org.everit.json.schema.internal;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.Optional;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
+import org.everit.json.schema.i18n.MessageCatalog;
 
 /**
  * Implementation of the "uri" format value.
  */
-public class URIFormatValidator implements FormatValidator {
+public class URIFormatValidator extends PredicateFormatValidator {
 
-    private final boolean protocolRelativeURIPermitted;
+    private static boolean isProtocolRelativeURI(CharSequence subject) {
+        return subject.length() > 1 && subject.charAt(0) == '/' && subject.charAt(1) == '/';
+    }
 
     public URIFormatValidator() {
         this(true);
     }
 
     public URIFormatValidator(boolean protocolRelativeURIPermitted) {
-        this.protocolRelativeURIPermitted = protocolRelativeURIPermitted;
-    }
-
-    @Override
-    public Optional<String> validate(final String subject) {
-        try {
-            if (subject != null) {
-                URI uri = new URI(subject);
-                if (hasProtocol(uri) || (protocolRelativeURIPermitted && isProtocolRelativeURI(subject)))
-                    return Optional.empty();
-            }
-        } catch (URISyntaxException e) {
-            // Nothing To Do
-        }
-        return Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.uri"), subject));
+        super(subject -> Rfc3986.isUri(subject)
+                        || (protocolRelativeURIPermitted && Rfc3986.isUriReference(subject)
+                        && isProtocolRelativeURI(subject)),
+                "format.uri", "uri");
     }
 
     /**
@@ -57,18 +45,6 @@ public class URIFormatValidator implements FormatValidator {
      */
     @Deprecated
     protected Optional<String> failure(String subject) {
-        return Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.uri"), subject));
-    }
-
-    private boolean isProtocolRelativeURI(String subject) {
-        return subject.startsWith("//");
-    }
-
-    private boolean hasProtocol(URI uri) {
-        return uri.getScheme() != null;
-    }
-
-    @Override public String formatName() {
-        return "uri";
+        return Optional.of(failureMessage(subject, MessageCatalog.DEFAULT));
     }
 }
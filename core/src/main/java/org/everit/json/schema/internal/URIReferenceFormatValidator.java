@@ -16,31 +16,28 @@
  */
 package org.everit.json.schema.internal;
 
-import static java.lang.String.format;
-
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.Optional;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
+import org.everit.json.schema.i18n.MessageCatalog;
 
-public class URIReferenceFormatValidator implements FormatValidator {
+public class URIReferenceFormatValidator extends PredicateFormatValidator {
 
-    @Override public Optional<String> validate(String subject) {
-        try {
-            new URI(subject);
-            return Optional.empty();
-        } catch (URISyntaxException e) {
-            return failure(subject);
-        }
+    private final boolean failureOverridden = isOverriddenBelow(getClass(), URIReferenceFormatValidator.class,
+            "failure", String.class);
+
+    public URIReferenceFormatValidator() {
+        super(Rfc3986::isUriReference, "format.uri-reference", "uri-reference");
     }
 
-    protected Optional<String> failure(String subject) {
-        return Optional.of(format(ResourceBundleThreadLocal.get().getString("format.uri-reference"), subject));
+    @Override
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        if (failureOverridden) {
+            return failure(subject == null ? null : subject.toString()).get();
+        }
+        return super.failureMessage(subject, catalog);
     }
 
-    @Override public String formatName() {
-        return "uri-reference";
+    protected Optional<String> failure(String subject) {
+        return Optional.of(super.failureMessage(subject, MessageCatalog.DEFAULT));
     }
 }
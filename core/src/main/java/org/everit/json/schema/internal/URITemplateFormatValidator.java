@@ -16,28 +16,9 @@
  */
 package org.everit.json.schema.internal;
 
-import static java.lang.String.format;
+public class URITemplateFormatValidator extends PredicateFormatValidator {
 
-import java.util.Optional;
-
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
-
-import com.damnhandy.uri.template.MalformedUriTemplateException;
-import com.damnhandy.uri.template.UriTemplate;
-
-public class URITemplateFormatValidator implements FormatValidator {
-
-    @Override public Optional<String> validate(String subject) {
-        try {
-            UriTemplate.fromTemplate(subject);
-            return Optional.empty();
-        } catch (MalformedUriTemplateException e) {
-            return Optional.of(format(ResourceBundleThreadLocal.get().getString("format.uri-template"), subject));
-        }
-    }
-
-    @Override public String formatName() {
-        return "uri-template";
+    public URITemplateFormatValidator() {
+        super(Rfc6570::isUriTemplate, "format.uri-template", "uri-template");
     }
 }
@@ -16,30 +16,28 @@
  */
 package org.everit.json.schema.internal;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.Optional;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.everit.json.schema.FormatValidator;
+import org.everit.json.schema.i18n.MessageCatalog;
 
-public class URIV4FormatValidator implements FormatValidator {
+public class URIV4FormatValidator extends PredicateFormatValidator {
+
+    private final boolean failureOverridden = isOverriddenBelow(getClass(), URIV4FormatValidator.class, "failure",
+            String.class);
+
+    public URIV4FormatValidator() {
+        super(Rfc3986::isUriReference, "format.uriv4", "uri");
+    }
 
     @Override
-    public Optional<String> validate(final String subject) {
-        try {
-            URI uri = new URI(subject);
-            return Optional.empty();
-        } catch (URISyntaxException | NullPointerException e) {
-            return failure(subject);
+    public String failureMessage(CharSequence subject, MessageCatalog catalog) {
+        if (failureOverridden) {
+            return failure(subject == null ? null : subject.toString()).get();
         }
+        return super.failureMessage(subject, catalog);
     }
 
     protected Optional<String> failure(String subject) {
-        return Optional.of(String.format(ResourceBundleThreadLocal.get().getString("format.uriv4"), subject));
-    }
-
-    @Override public String formatName() {
-        return "uri";
+        return Optional.of(super.failureMessage(subject, MessageCatalog.DEFAULT));
     }
 }
@@ -15,8 +15,12 @@ import org.everit.json.schema.internal.DateFormatValidator;
 import org.everit.json.schema.internal.DateTimeFormatValidator;
 import org.everit.json.schema.internal.EmailFormatValidator;
 import org.everit.json.schema.internal.HostnameFormatValidator;
+import org.everit.json.schema.internal.IdnEmailFormatValidator;
+import org.everit.json.schema.internal.IdnHostnameFormatValidator;
 import org.everit.json.schema.internal.IPV4Validator;
 import org.everit.json.schema.internal.IPV6Validator;
+import org.everit.json.schema.internal.IRIFormatValidator;
+import org.everit.json.schema.internal.IRIReferenceFormatValidator;
 import org.everit.json.schema.internal.JsonPointerFormatValidator;
 import org.everit.json.schema.internal.RegexFormatValidator;
 import org.everit.json.schema.internal.RelativeJsonPointerFormatValidator;
@@ -150,7 +154,11 @@ enum SpecificationVersion {
             new URIFormatValidator(false),
             new TimeFormatValidator(),
             new RegexFormatValidator(),
-            new RelativeJsonPointerFormatValidator()
+            new RelativeJsonPointerFormatValidator(),
+            new IdnEmailFormatValidator(),
+            new IdnHostnameFormatValidator(),
+            new IRIFormatValidator(),
+            new IRIReferenceFormatValidator()
     );
 
     private static Map<String, FormatValidator> formatValidators(Map<String, FormatValidator> parent, FormatValidator... validators) {
@@ -0,0 +1,207 @@
+package org.everit.json.schema.regexp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Static check of regexps for constructs which may cause catastrophic (exponential) backtracking in a backtracking
+ * regexp engine, like {@code (a+)+}, {@code (\w*\s?)*} or {@code (a|ab)*}.
+ * <p>
+ * The check recognizes repeated groups which either contain a repetition themselves, or contain alternatives which
+ * may start with the same character. It is a heuristic: it may report safe patterns (like {@code (\d|x)*}), and it
+ * doesn't report patterns with polynomial backtracking (like {@code \d+\d+x}).
+ * </p>
+ */
+final class CatastrophicBacktracking {
+
+    private static final class Group {
+
+        boolean containsRepetition;
+
+        boolean startOfAlternative = true;
+
+        boolean overlappingAlternatives;
+
+        boolean alternation;
+
+        final Set<Character> firstCharacters = new HashSet<>();
+
+        boolean unknownFirstCharacter;
+
+        void atom(Character literal) {
+            if (startOfAlternative) {
+                startOfAlternative = false;
+                if (literal == null) {
+                    unknownFirstCharacter = true;
+                } else if (!firstCharacters.add(literal)) {
+                    overlappingAlternatives = true;
+                }
+            }
+        }
+
+        boolean hasOverlappingAlternatives() {
+            return alternation && (overlappingAlternatives || unknownFirstCharacter);
+        }
+    }
+
+    static boolean isPossible(String pattern) {
+        Deque<Group> enclosing = new ArrayDeque<>();
+        Group current = new Group();
+        int i = 0;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i);
+            switch (ch) {
+            case '\\':
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == 'Q') {
+                    int end = pattern.indexOf("\\E", i + 2);
+                    i = end < 0 ? pattern.length() : end + 2;
+                    current.atom(null);
+                    continue;
+                }
+                current.atom(i + 1 < pattern.length() && !Character.isLetterOrDigit(pattern.charAt(i + 1))
+                        ? pattern.charAt(i + 1) : null);
+                i += 2;
+                break;
+            case '[':
+                current.atom(null);
+                i = endOfCharClass(pattern, i);
+                break;
+            case '(':
+                current.atom(null);
+                enclosing.push(current);
+                current = new Group();
+                i = skipGroupModifiers(pattern, i + 1);
+                continue;
+            case ')':
+                Group closed = current;
+                current = enclosing.isEmpty() ? new Group() : enclosing.pop();
+                ++i;
+                int repetition = repetitionAt(pattern, i);
+                if (repetition != 0) {
+                    if (repetition > 0 && (closed.containsRepetition || closed.hasOverlappingAlternatives())) {
+                        return true;
+                    }
+                    current.containsRepetition |= repetition > 0;
+                }
+                current.containsRepetition |= closed.containsRepetition;
+                continue;
+            case '|':
+                current.alternation = true;
+                current.startOfAlternative = true;
+                ++i;
+                break;
+            case '^':
+            case '$':
+                ++i;
+                break;
+            case '.':
+                current.atom(null);
+                ++i;
+                break;
+            default:
+                int quantifier = repetitionAt(pattern, i);
+                if (quantifier != 0) {
+                    current.containsRepetition |= quantifier > 0;
+                    i = skipQuantifier(pattern, i);
+                    continue;
+                }
+                current.atom(ch);
+                ++i;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code 1} if there is a quantifier at {@code index} which may repeat its operand more than once,
+     * {@code -1} if there is another quantifier, {@code 0} if there is no quantifier.
+     */
+    private static int repetitionAt(String pattern, int index) {
+        if (index >= pattern.length()) {
+            return 0;
+        }
+        switch (pattern.charAt(index)) {
+        case '*':
+        case '+':
+            return 1;
+        case '?':
+            return -1;
+        case '{':
+            int end = pattern.indexOf('}', index);
+            if (end < 0) {
+                return 0;
+            }
+            String bounds = pattern.substring(index + 1, end);
+            if (!bounds.matches("\\d+(,\\d*)?")) {
+                return 0;
+            }
+            int comma = bounds.indexOf(',');
+            if (comma < 0) {
+                return Integer.parseInt(bounds) > 1 ? 1 : -1;
+            }
+            String max = bounds.substring(comma + 1);
+            return max.isEmpty() || Integer.parseInt(max) > 1 ? 1 : -1;
+        default:
+            return 0;
+        }
+    }
+
+    private static int skipQuantifier(String pattern, int index) {
+        int end = pattern.charAt(index) == '{' ? pattern.indexOf('}', index) + 1 : index + 1;
+        if (end < pattern.length() && (pattern.charAt(end) == '?' || pattern.charAt(end) == '+')) {
+            ++end;
+        }
+        return end;
+    }
+
+    private static int skipGroupModifiers(String pattern, int index) {
+        if (index >= pattern.length() || pattern.charAt(index) != '?') {
+            return index;
+        }
+        int i = index + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '<' && i + 1 < pattern.length()
+                && Character.isLetter(pattern.charAt(i + 1))) {
+            return pattern.indexOf('>', i) + 1;
+        }
+        while (i < pattern.length() && (Character.isLetter(pattern.charAt(i)) || pattern.charAt(i) == '-')) {
+            ++i;
+        }
+        while (i < pattern.length() && ":=!<>".indexOf(pattern.charAt(i)) >= 0) {
+            ++i;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index after the end of the character class starting at {@code start}, allowing nested classes.
+     */
+    private static int endOfCharClass(String pattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i);
+            if (ch == '\\') {
+                i += 2;
+                continue;
+            } else if (ch == '[') {
+                ++depth;
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '^') {
+                    ++i;
+                }
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == ']') {
+                    ++i;
+                }
+            } else if (ch == ']' && --depth == 0) {
+                return i + 1;
+            }
+            ++i;
+        }
+        return i;
+    }
+
+    private CatastrophicBacktracking() {
+    }
+
+}
@@ -0,0 +1,165 @@
+package org.everit.json.schema.regexp;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code java.util.regex} regexp with a budget of matching steps, where a step is reading a character of the input.
+ * Once the budget is exhausted, matching is interrupted by a {@link RegexpBudgetExceededException}.
+ */
+class StepBudgetedRegexp extends AbstractRegexp {
+
+    /**
+     * Signals the exhaustion of the budget inside the matcher, where no pattern is at hand.
+     */
+    private static final class StepBudgetExhausted extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StepBudgetExhausted() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final StepBudgetExhausted BUDGET_EXHAUSTED = new StepBudgetExhausted();
+
+    /**
+     * The matched input, counting the characters read by the matcher.
+     */
+    private static final class StepCountingCharSequence implements CharSequence {
+
+        private final CharSequence input;
+
+        private long remainingSteps;
+
+        private StepCountingCharSequence(CharSequence input, long budget) {
+            this.input = input;
+            this.remainingSteps = budget;
+        }
+
+        @Override public int length() {
+            return input.length();
+        }
+
+        @Override public char charAt(int index) {
+            if (--remainingSteps < 0) {
+                throw BUDGET_EXHAUSTED;
+            }
+            return input.charAt(index);
+        }
+
+        @Override public CharSequence subSequence(int start, int end) {
+            return input.subSequence(start, end);
+        }
+
+        @Override public String toString() {
+            return input.toString();
+        }
+    }
+
+    private final Pattern pattern;
+
+    private final int stepsPerCharacter;
+
+    StepBudgetedRegexp(String pattern, int stepsPerCharacter) {
+        super(pattern);
+        this.pattern = Pattern.compile(pattern);
+        this.stepsPerCharacter = stepsPerCharacter;
+    }
+
+    /**
+     * @throws RegexpBudgetExceededException
+     *         if matching {@code input} exhausts the budget
+     */
+    @Override public boolean matches(CharSequence input) {
+        long budget = (long) stepsPerCharacter * (input.length() + 1);
+        try {
+            return pattern.matcher(new StepCountingCharSequence(input, budget)).find();
+        } catch (StepBudgetExhausted e) {
+            throw new RegexpBudgetExceededException(pattern.pattern());
+        }
+    }
+
+    /**
+     * Reports an input exhausting the budget as a matching failure, since this method can't signal it otherwise.
+     */
+    @Override public Optional<RegexpMatchingFailure> patternMatchingFailure(String input) {
+        try {
+            return super.patternMatchingFailure(input);
+        } catch (RegexpBudgetExceededException e) {
+            return Optional.of(new RegexpMatchingFailure());
+        }
+    }
+
+}
+
+/**
+ * {@link RegexpFactory} protecting against catastrophic backtracking (ReDoS) of {@code java.util.regex}.
+ * <p>
+ * The created regexps interrupt matching after a number of steps (characters read by the matcher) proportional to
+ * the length of the input, by throwing a {@link RegexpBudgetExceededException}. The validation reports such inputs as
+ * failures of the {@code pattern} or {@code patternProperties} keyword. Optionally, patterns found to be
+ * prone to catastrophic backtracking (like {@code (a+)+$}) by a static check are compiled with RE2J (which matches in
+ * linear time) instead, provided RE2J supports them.
+ * </p>
+ * <p>
+ * Trivial patterns (like {@code ^x-} or {@code ^[a-z]+$}) are matched without either engine, like in the other
+ * built-in factories.
+ * </p>
+ */
+public class GuardedRegexpFactory implements RegexpFactory {
+
+    public static final int DEFAULT_STEPS_PER_CHARACTER = 1000;
+
+    /**
+     * Checks if {@code pattern} contains constructs which may cause catastrophic backtracking.
+     */
+    public static boolean isPotentiallyCatastrophic(String pattern) {
+        return CatastrophicBacktracking.isPossible(pattern);
+    }
+
+    private final int stepsPerCharacter;
+
+    private final boolean routeCatastrophicToRE2J;
+
+    private final String engine;
+
+    public GuardedRegexpFactory() {
+        this(DEFAULT_STEPS_PER_CHARACTER, false);
+    }
+
+    /**
+     * @param stepsPerCharacter
+     *         the budget of matching steps per character of the input
+     * @param routeCatastrophicToRE2J
+     *         if {@code true}, then the {@link #isPotentiallyCatastrophic(String) potentially catastrophic} patterns
+     *         supported by RE2J are compiled with RE2J
+     */
+    public GuardedRegexpFactory(int stepsPerCharacter, boolean routeCatastrophicToRE2J) {
+        if (stepsPerCharacter < 1) {
+            throw new IllegalArgumentException("stepsPerCharacter must be positive, was " + stepsPerCharacter);
+        }
+        this.stepsPerCharacter = stepsPerCharacter;
+        this.routeCatastrophicToRE2J = routeCatastrophicToRE2J;
+        this.engine = "guarded java.util.regex " + stepsPerCharacter + (routeCatastrophicToRE2J ? " re2j" : "");
+    }
+
+    @Override public Regexp createHandler(String input) {
+        return RegexpCache.INSTANCE.get(engine, input, pattern -> {
+            Regexp trivial = TrivialRegexp.parse(pattern, true);
+            if (trivial != null) {
+                return trivial;
+            }
+            StepBudgetedRegexp budgeted = new StepBudgetedRegexp(pattern, stepsPerCharacter);
+            if (routeCatastrophicToRE2J && isPotentiallyCatastrophic(pattern)) {
+                try {
+                    return new RE2JRegexp(pattern);
+                } catch (RuntimeException e) {
+                    // RE2J doesn't support the pattern (eg. because of backreferences or lookarounds)
+                }
+            }
+            return budgeted;
+        });
+    }
+
+}
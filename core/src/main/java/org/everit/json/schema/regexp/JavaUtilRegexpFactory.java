@@ -1,6 +1,5 @@
 package org.everit.json.schema.regexp;
 
-import java.util.Optional;
 import java.util.regex.Pattern;
 
 class JavaUtilRegexp extends AbstractRegexp {
@@ -12,18 +11,20 @@ class JavaUtilRegexp extends AbstractRegexp {
         this.pattern = Pattern.compile(pattern);
     }
 
-    @Override public Optional<RegexpMatchingFailure> patternMatchingFailure(String input) {
-        if (pattern.matcher(input).find()) {
-            return Optional.empty();
-        } else {
-            return Optional.of(new RegexpMatchingFailure());
-        }
+    @Override public boolean matches(CharSequence input) {
+        return pattern.matcher(input).find();
     }
 
 }
 
 public class JavaUtilRegexpFactory implements RegexpFactory {
+
+    private static final String ENGINE = "java.util.regex";
+
     @Override public Regexp createHandler(String regexp) {
-        return new JavaUtilRegexp(regexp);
+        return RegexpCache.INSTANCE.get(ENGINE, regexp, pattern -> {
+            Regexp trivial = TrivialRegexp.parse(pattern, true);
+            return trivial != null ? trivial : new JavaUtilRegexp(pattern);
+        });
     }
 }
@@ -1,30 +1,30 @@
 package org.everit.json.schema.regexp;
 
-import java.util.Optional;
-
 import com.google.re2j.Pattern;
 
 class RE2JRegexp extends AbstractRegexp {
 
-    private Pattern pattern;
+    private final Pattern pattern;
 
     RE2JRegexp(String pattern) {
         super(pattern);
         this.pattern = Pattern.compile(pattern);
     }
 
-    @Override public Optional<RegexpMatchingFailure> patternMatchingFailure(String input) {
-        if (pattern.matcher(input).find()) {
-            return Optional.empty();
-        } else {
-            return Optional.of(new RegexpMatchingFailure());
-        }
+    @Override public boolean matches(CharSequence input) {
+        return pattern.matcher(input).find();
     }
 
 }
 
 public class RE2JRegexpFactory implements RegexpFactory {
+
+    private static final String ENGINE = "re2j";
+
     @Override public Regexp createHandler(String input) {
-        return new RE2JRegexp(input);
+        return RegexpCache.INSTANCE.get(ENGINE, input, pattern -> {
+            Regexp trivial = TrivialRegexp.parse(pattern, false);
+            return trivial != null ? trivial : new RE2JRegexp(pattern);
+        });
     }
 }
@@ -8,16 +8,38 @@ public interface Regexp {
 
     Optional<RegexpMatchingFailure> patternMatchingFailure(String input);
 
+    /**
+     * Checks if the pattern matches {@code input} (at any position, like {@link java.util.regex.Matcher#find()}).
+     * <p>
+     * Unlike {@link #patternMatchingFailure(String)}, the built-in implementations don't allocate a failure object.
+     * </p>
+     *
+     * @throws RegexpBudgetExceededException
+     *         if the regexp limits the cost of matching (see {@link GuardedRegexpFactory}), and matching {@code input}
+     *         exceeds it
+     */
+    default boolean matches(CharSequence input) {
+        return !patternMatchingFailure(input.toString()).isPresent();
+    }
+
 }
 
 abstract class AbstractRegexp implements Regexp {
 
     private final String asString;
 
+    private static final Optional<RegexpMatchingFailure> FAILURE = Optional.of(new RegexpMatchingFailure());
+
     AbstractRegexp(String asString) {
         this.asString = requireNonNull(asString, "asString cannot be null");
     }
 
+    @Override public abstract boolean matches(CharSequence input);
+
+    @Override public Optional<RegexpMatchingFailure> patternMatchingFailure(String input) {
+        return matches(input) ? Optional.empty() : FAILURE;
+    }
+
     @Override public String toString() {
         return asString;
     }
@@ -0,0 +1,26 @@
+package org.everit.json.schema.regexp;
+
+/**
+ * Thrown by {@link Regexp#matches(CharSequence)} of the regexps created by {@link GuardedRegexpFactory} if matching an
+ * input exhausts the budget of matching steps. It means that the regexp can't decide whether the input matches or not,
+ * so the validation reports it as a failure of its own, instead of treating the input as not matching.
+ */
+public class RegexpBudgetExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String pattern;
+
+    RegexpBudgetExceededException(String pattern) {
+        super("matching budget of pattern " + pattern + " exceeded", null, false, false);
+        this.pattern = pattern;
+    }
+
+    /**
+     * @return the pattern of the regexp which exhausted its budget
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+}
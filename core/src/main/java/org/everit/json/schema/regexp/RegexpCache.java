@@ -0,0 +1,85 @@
+package org.everit.json.schema.regexp;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Process-wide cache of the regexps created by the built-in {@link RegexpFactory} implementations, so a pattern
+ * occurring many times in the loaded schemas is compiled once per engine, and all its occurrences share the same
+ * {@link Regexp} instance.
+ * <p>
+ * The cache holds at most {@link #MAX_SIZE} regexps. When it is full, arbitrary entries are evicted to make room for
+ * new ones. Patterns failing to compile are not cached.
+ * </p>
+ */
+final class RegexpCache {
+
+    static final int MAX_SIZE = 4096;
+
+    static final RegexpCache INSTANCE = new RegexpCache(MAX_SIZE);
+
+    private static final class Key {
+
+        private final String engine;
+
+        private final String pattern;
+
+        private Key(String engine, String pattern) {
+            this.engine = engine;
+            this.pattern = pattern;
+        }
+
+        @Override public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return engine.equals(key.engine) && pattern.equals(key.pattern);
+        }
+
+        @Override public int hashCode() {
+            return Objects.hash(engine, pattern);
+        }
+    }
+
+    private final int maxSize;
+
+    private final Map<Key, Regexp> regexps = new ConcurrentHashMap<>();
+
+    RegexpCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached regexp of {@code pattern} compiled by {@code engine}, or compiles it with {@code compiler}
+     * (and caches it) if there is no such regexp yet.
+     */
+    Regexp get(String engine, String pattern, Function<String, Regexp> compiler) {
+        Key key = new Key(engine, pattern);
+        Regexp regexp = regexps.get(key);
+        if (regexp != null) {
+            return regexp;
+        }
+        evictIfFull();
+        return regexps.computeIfAbsent(key, k -> compiler.apply(k.pattern));
+    }
+
+    private void evictIfFull() {
+        Iterator<Key> keys = regexps.keySet().iterator();
+        while (regexps.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    int size() {
+        return regexps.size();
+    }
+
+}
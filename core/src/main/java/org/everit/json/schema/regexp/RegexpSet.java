@@ -0,0 +1,125 @@
+package org.everit.json.schema.regexp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of {@link Regexp}s which finds all the regexps matching an input at once.
+ * <p>
+ * Regexps anchored to the start of the input with a literal prefix (like {@code ^x-} or {@code ^prefix_[0-9]+$}) are
+ * indexed by the first character of their prefix, so for a given input only the regexps with a matching prefix are
+ * evaluated. Other regexps (and regexps not created by the built-in {@link RegexpFactory} implementations) are
+ * evaluated for every input.
+ * </p>
+ */
+public final class RegexpSet {
+
+    private static final int[] NO_INDEXES = new int[0];
+
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final String OPTIONAL_QUANTIFIERS = "*?{";
+
+    public static RegexpSet of(List<Regexp> regexps) {
+        return new RegexpSet(regexps);
+    }
+
+    /**
+     * Returns the literal prefix every input matched by {@code regexp} starts with, or {@code null} if there is no
+     * such prefix, or it can't be determined.
+     */
+    static String literalPrefixOf(Regexp regexp) {
+        if (!(regexp instanceof AbstractRegexp)) {
+            return null;
+        }
+        String pattern = regexp.toString();
+        if (!pattern.startsWith("^") || pattern.indexOf('|') >= 0) {
+            return null;
+        }
+        int end = 1;
+        while (end < pattern.length() && METACHARACTERS.indexOf(pattern.charAt(end)) < 0) {
+            ++end;
+        }
+        if (end < pattern.length() && OPTIONAL_QUANTIFIERS.indexOf(pattern.charAt(end)) >= 0) {
+            --end;
+        }
+        return end > 1 ? pattern.substring(1, end) : null;
+    }
+
+    private final Regexp[] regexps;
+
+    private final String[] prefixes;
+
+    /**
+     * The indexes of the regexps evaluated for every input, in ascending order.
+     */
+    private final int[] unindexed;
+
+    /**
+     * The indexes of the prefixed regexps by the first character of their prefix, in ascending order.
+     */
+    private final Map<Character, int[]> prefixedByFirstChar;
+
+    private RegexpSet(List<Regexp> regexps) {
+        this.regexps = regexps.toArray(new Regexp[regexps.size()]);
+        this.prefixes = new String[this.regexps.length];
+        List<Integer> unindexed = new ArrayList<>();
+        Map<Character, List<Integer>> prefixedByFirstChar = new HashMap<>();
+        for (int i = 0; i < this.regexps.length; ++i) {
+            String prefix = literalPrefixOf(this.regexps[i]);
+            prefixes[i] = prefix;
+            if (prefix == null) {
+                unindexed.add(i);
+            } else {
+                prefixedByFirstChar.computeIfAbsent(prefix.charAt(0), c -> new ArrayList<>()).add(i);
+            }
+        }
+        this.unindexed = toArray(unindexed);
+        this.prefixedByFirstChar = new HashMap<>();
+        prefixedByFirstChar.forEach((firstChar, indexes) -> this.prefixedByFirstChar.put(firstChar, toArray(indexes)));
+    }
+
+    private static int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public int size() {
+        return regexps.length;
+    }
+
+    /**
+     * Finds the regexps matching {@code input}.
+     *
+     * @param input
+     *         the string to be matched
+     * @param matches
+     *         the array receiving the indexes (in the list the set was created from) of the matching regexps, in
+     *         ascending order. Its length should be at least {@link #size()}.
+     * @return the number of matching regexps, the number of indexes written into {@code matches}
+     * @throws RegexpBudgetExceededException
+     *         if matching {@code input} exceeds the budget of one of the regexps
+     */
+    public int matchingIndexes(String input, int[] matches) {
+        int[] prefixed = input.isEmpty() ? NO_INDEXES : prefixedByFirstChar.getOrDefault(input.charAt(0), NO_INDEXES);
+        int matchCount = 0;
+        int u = 0, p = 0;
+        while (u < unindexed.length || p < prefixed.length) {
+            int index;
+            if (p == prefixed.length || (u < unindexed.length && unindexed[u] < prefixed[p])) {
+                index = unindexed[u++];
+            } else {
+                index = prefixed[p++];
+                if (!input.startsWith(prefixes[index])) {
+                    continue;
+                }
+            }
+            if (regexps[index].matches(input)) {
+                matches[matchCount++] = index;
+            }
+        }
+        return matchCount;
+    }
+
+}
@@ -0,0 +1,470 @@
+package org.everit.json.schema.regexp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written matcher of trivial regexps, used by the built-in {@link RegexpFactory} implementations instead of the
+ * regexp engine.
+ * <p>
+ * Two shapes of patterns are recognized:
+ * <ul>
+ * <li>literals and groups of alternative literals, optionally anchored, like {@code ^x-}, {@code foo$} or
+ * {@code ^(GET|POST|PUT)$}</li>
+ * <li>a single (possibly quantified) character class between an anchored literal prefix and an optional literal
+ * suffix, like {@code ^[a-z0-9_]+$}, {@code ^\d{4}$} or {@code ^id-[0-9]*}</li>
+ * </ul>
+ * Anything else (or anything the parser is unsure about) is left to the regexp engine. Matching has the same
+ * semantics as {@code Matcher#find()}, including the {@code java.util.regex} behavior of {@code $} matching before a
+ * final line terminator, if {@code dollarMatchesBeforeFinalLineTerminator} is set.
+ * </p>
+ */
+final class TrivialRegexp extends AbstractRegexp {
+
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * The largest repeat count accepted by RE2J. Patterns with larger counts are left to the engine, which either
+     * matches them ({@code java.util.regex}) or rejects them (RE2J).
+     */
+    private static final int MAX_REPEAT_COUNT = 1000;
+
+    /**
+     * Parses {@code pattern}, and returns its matcher if it has one of the trivial shapes, otherwise {@code null}.
+     */
+    static TrivialRegexp parse(String pattern, boolean dollarMatchesBeforeFinalLineTerminator) {
+        try {
+            return new Parser(pattern).parse(dollarMatchesBeforeFinalLineTerminator);
+        } catch (NotTrivialException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A set of code points defined by ranges, possibly negated.
+     */
+    private static final class CharClass {
+
+        private final int[] lowerBounds;
+
+        private final int[] upperBounds;
+
+        private final boolean negated;
+
+        private CharClass(List<int[]> ranges, boolean negated) {
+            this.lowerBounds = ranges.stream().mapToInt(range -> range[0]).toArray();
+            this.upperBounds = ranges.stream().mapToInt(range -> range[1]).toArray();
+            this.negated = negated;
+        }
+
+        boolean contains(int codePoint) {
+            for (int i = 0; i < lowerBounds.length; ++i) {
+                if (lowerBounds[i] <= codePoint && codePoint <= upperBounds[i]) {
+                    return !negated;
+                }
+            }
+            return negated;
+        }
+    }
+
+    private static final class NotTrivialException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private NotTrivialException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Parser {
+
+        private static final NotTrivialException NOT_TRIVIAL = new NotTrivialException();
+
+        private final String pattern;
+
+        private int pos;
+
+        private Parser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        private boolean atEnd() {
+            return pos == pattern.length();
+        }
+
+        private char peek() {
+            return pattern.charAt(pos);
+        }
+
+        private boolean consume(char expected) {
+            if (!atEnd() && peek() == expected) {
+                ++pos;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isQuantifierAt(int index) {
+            return index < pattern.length() && "?*+{".indexOf(pattern.charAt(index)) >= 0;
+        }
+
+        private TrivialRegexp parse(boolean dollarMatchesBeforeFinalLineTerminator) throws NotTrivialException {
+            boolean anchoredStart = consume('^');
+            if (consume('(')) {
+                if (consume('?') && !consume(':')) {
+                    throw NOT_TRIVIAL;
+                }
+                List<String> alternatives = new ArrayList<>();
+                alternatives.add(literal());
+                while (consume('|')) {
+                    alternatives.add(literal());
+                }
+                if (!consume(')')) {
+                    throw NOT_TRIVIAL;
+                }
+                boolean anchoredEnd = consume('$');
+                if (!atEnd()) {
+                    throw NOT_TRIVIAL;
+                }
+                return new TrivialRegexp(pattern, anchoredStart, anchoredEnd, dollarMatchesBeforeFinalLineTerminator,
+                        alternatives.toArray(new String[alternatives.size()]), null, 0, 0, null);
+            }
+            String prefix = literal();
+            if (atEnd() || (peek() == '$' && pos == pattern.length() - 1)) {
+                boolean anchoredEnd = consume('$');
+                return new TrivialRegexp(pattern, anchoredStart, anchoredEnd, dollarMatchesBeforeFinalLineTerminator,
+                        new String[] { prefix }, null, 0, 0, null);
+            }
+            if (!anchoredStart) {
+                throw NOT_TRIVIAL;
+            }
+            CharClass charClass;
+            if (METACHARACTERS.indexOf(peek()) < 0 && isQuantifierAt(pos + 1)) {
+                // a quantified literal character
+                List<int[]> ranges = new ArrayList<>();
+                ranges.add(new int[] { peek(), peek() });
+                charClass = new CharClass(ranges, false);
+                ++pos;
+            } else {
+                charClass = charClass();
+            }
+            int[] bounds = quantifier();
+            String suffix = literal();
+            boolean anchoredEnd = consume('$');
+            if (!atEnd() || (!anchoredEnd && !suffix.isEmpty())) {
+                throw NOT_TRIVIAL;
+            }
+            return new TrivialRegexp(pattern, true, anchoredEnd, dollarMatchesBeforeFinalLineTerminator, null,
+                    prefix, bounds[0], bounds[1], charClass, suffix);
+        }
+
+        /**
+         * Parses a (possibly empty) sequence of literal characters, which may be escaped punctuation characters. A
+         * character followed by a quantifier is not part of the literal.
+         */
+        private String literal() throws NotTrivialException {
+            StringBuilder literal = new StringBuilder();
+            while (!atEnd()) {
+                char ch = peek();
+                int next = pos + 1;
+                if (ch == '\\') {
+                    if (next == pattern.length() || !isEscapedPunctuation(pattern.charAt(next))) {
+                        break;
+                    }
+                    ch = pattern.charAt(next);
+                    next = pos + 2;
+                } else if (METACHARACTERS.indexOf(ch) >= 0) {
+                    break;
+                } else if (Character.isSurrogate(ch)) {
+                    throw NOT_TRIVIAL;
+                }
+                if (isQuantifierAt(next)) {
+                    break;
+                }
+                literal.append(ch);
+                pos = next;
+            }
+            if (!atEnd() && peek() == '\\' && isQuantifierAt(pos + 2) && pos + 1 < pattern.length()
+                    && isEscapedPunctuation(pattern.charAt(pos + 1))) {
+                // a quantified escaped character
+                throw NOT_TRIVIAL;
+            }
+            return literal.toString();
+        }
+
+        private boolean isEscapedPunctuation(char ch) {
+            return ch < 128 && !Character.isLetterOrDigit(ch) && !Character.isWhitespace(ch);
+        }
+
+        private CharClass charClass() throws NotTrivialException {
+            List<int[]> ranges = new ArrayList<>();
+            if (consume('\\')) {
+                if (!escapedClass(ranges)) {
+                    throw NOT_TRIVIAL;
+                }
+                return new CharClass(ranges, false);
+            }
+            if (!consume('[')) {
+                throw NOT_TRIVIAL;
+            }
+            boolean negated = consume('^');
+            boolean first = true;
+            while (!consume(']')) {
+                if (atEnd() || "[&".indexOf(peek()) >= 0) {
+                    throw NOT_TRIVIAL;
+                }
+                if (peek() == '-' && !first && pos + 1 < pattern.length() && pattern.charAt(pos + 1) != ']') {
+                    // a dash which is neither a range separator nor at the boundaries of the class
+                    throw NOT_TRIVIAL;
+                }
+                first = false;
+                if (consume('\\')) {
+                    if (escapedClass(ranges)) {
+                        continue;
+                    }
+                    --pos;
+                }
+                int lower = classCharacter();
+                if (!atEnd() && peek() == '-' && pos + 1 < pattern.length() && pattern.charAt(pos + 1) != ']') {
+                    ++pos;
+                    int upper = classCharacter();
+                    if (upper < lower) {
+                        throw NOT_TRIVIAL;
+                    }
+                    ranges.add(new int[] { lower, upper });
+                } else {
+                    ranges.add(new int[] { lower, lower });
+                }
+            }
+            if (ranges.isEmpty()) {
+                throw NOT_TRIVIAL;
+            }
+            return new CharClass(ranges, negated);
+        }
+
+        private int classCharacter() throws NotTrivialException {
+            if (atEnd()) {
+                throw NOT_TRIVIAL;
+            }
+            char ch = peek();
+            if (ch == '\\') {
+                if (pos + 1 == pattern.length() || !isEscapedPunctuation(pattern.charAt(pos + 1))) {
+                    throw NOT_TRIVIAL;
+                }
+                pos += 2;
+                return pattern.charAt(pos - 1);
+            } else if ("[]&".indexOf(ch) >= 0 || Character.isSurrogate(ch)) {
+                throw NOT_TRIVIAL;
+            }
+            ++pos;
+            return ch;
+        }
+
+        /**
+         * Parses the escape sequence of a predefined character class (after the backslash), and adds its ranges.
+         */
+        private boolean escapedClass(List<int[]> ranges) {
+            if (atEnd()) {
+                return false;
+            }
+            switch (peek()) {
+            case 'd':
+                ranges.add(new int[] { '0', '9' });
+                break;
+            case 'w':
+                ranges.add(new int[] { 'a', 'z' });
+                ranges.add(new int[] { 'A', 'Z' });
+                ranges.add(new int[] { '0', '9' });
+                ranges.add(new int[] { '_', '_' });
+                break;
+            default:
+                return false;
+            }
+            ++pos;
+            return true;
+        }
+
+        private int[] quantifier() throws NotTrivialException {
+            int[] bounds;
+            if (consume('?')) {
+                bounds = new int[] { 0, 1 };
+            } else if (consume('*')) {
+                bounds = new int[] { 0, UNBOUNDED };
+            } else if (consume('+')) {
+                bounds = new int[] { 1, UNBOUNDED };
+            } else if (consume('{')) {
+                int min = number();
+                int max = min;
+                if (consume(',')) {
+                    max = !atEnd() && peek() == '}' ? UNBOUNDED : number();
+                }
+                if (!consume('}') || max < min) {
+                    throw NOT_TRIVIAL;
+                }
+                bounds = new int[] { min, max };
+            } else {
+                return new int[] { 1, 1 };
+            }
+            if (isQuantifierAt(pos)) {
+                // lazy or possessive quantifier
+                throw NOT_TRIVIAL;
+            }
+            return bounds;
+        }
+
+        private int number() throws NotTrivialException {
+            int start = pos;
+            while (!atEnd() && peek() >= '0' && peek() <= '9') {
+                ++pos;
+            }
+            if (start == pos || pos - start > 4) {
+                throw NOT_TRIVIAL;
+            }
+            int number = Integer.parseInt(pattern.substring(start, pos));
+            if (number > MAX_REPEAT_COUNT) {
+                throw NOT_TRIVIAL;
+            }
+            return number;
+        }
+    }
+
+    private final boolean anchoredStart;
+
+    private final boolean anchoredEnd;
+
+    private final boolean dollarMatchesBeforeFinalLineTerminator;
+
+    /**
+     * The alternative literals, or {@code null} if this is a character class pattern.
+     */
+    private final String[] literals;
+
+    private final String prefix;
+
+    private final int minCount;
+
+    private final int maxCount;
+
+    private final CharClass charClass;
+
+    private final String suffix;
+
+    private TrivialRegexp(String pattern, boolean anchoredStart, boolean anchoredEnd,
+            boolean dollarMatchesBeforeFinalLineTerminator, String[] literals, String prefix, int minCount,
+            int maxCount, CharClass charClass) {
+        this(pattern, anchoredStart, anchoredEnd, dollarMatchesBeforeFinalLineTerminator, literals, prefix, minCount,
+                maxCount, charClass, "");
+    }
+
+    private TrivialRegexp(String pattern, boolean anchoredStart, boolean anchoredEnd,
+            boolean dollarMatchesBeforeFinalLineTerminator, String[] literals, String prefix, int minCount,
+            int maxCount, CharClass charClass, String suffix) {
+        super(pattern);
+        this.anchoredStart = anchoredStart;
+        this.anchoredEnd = anchoredEnd;
+        this.dollarMatchesBeforeFinalLineTerminator = dollarMatchesBeforeFinalLineTerminator;
+        this.literals = literals;
+        this.prefix = prefix;
+        this.minCount = minCount;
+        this.maxCount = maxCount;
+        this.charClass = charClass;
+        this.suffix = suffix;
+    }
+
+    @Override public boolean matches(CharSequence input) {
+        int length = input.length();
+        if (!anchoredEnd) {
+            return matchesUpTo(input, length);
+        }
+        if (matchesUpTo(input, length)) {
+            return true;
+        }
+        if (!dollarMatchesBeforeFinalLineTerminator || length == 0) {
+            return false;
+        }
+        char last = input.charAt(length - 1);
+        if (last == '\n') {
+            if (length >= 2 && input.charAt(length - 2) == '\r') {
+                return matchesUpTo(input, length - 2);
+            }
+            return matchesUpTo(input, length - 1);
+        } else if (last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029') {
+            return matchesUpTo(input, length - 1);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the pattern matches {@code input}, where the end anchor (if any) is at {@code end}.
+     */
+    private boolean matchesUpTo(CharSequence input, int end) {
+        if (literals != null) {
+            for (String literal : literals) {
+                if (matchesLiteral(input, end, literal)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (!regionMatches(input, 0, prefix)) {
+            return false;
+        }
+        int pos = prefix.length();
+        if (!anchoredEnd) {
+            int count = 0;
+            while (count < minCount && pos < input.length()) {
+                int codePoint = Character.codePointAt(input, pos);
+                if (!charClass.contains(codePoint)) {
+                    return false;
+                }
+                pos += Character.charCount(codePoint);
+                ++count;
+            }
+            return count == minCount;
+        }
+        int classEnd = end - suffix.length();
+        if (classEnd < pos || !regionMatches(input, classEnd, suffix)) {
+            return false;
+        }
+        int count = 0;
+        while (pos < classEnd) {
+            int codePoint = Character.codePointAt(input, pos);
+            if (++count > maxCount || !charClass.contains(codePoint)) {
+                return false;
+            }
+            pos += Character.charCount(codePoint);
+        }
+        return pos == classEnd && count >= minCount;
+    }
+
+    private boolean matchesLiteral(CharSequence input, int end, String literal) {
+        if (anchoredStart && anchoredEnd) {
+            return end == literal.length() && regionMatches(input, 0, literal);
+        } else if (anchoredStart) {
+            return regionMatches(input, 0, literal);
+        } else if (anchoredEnd) {
+            return end >= literal.length() && regionMatches(input, end - literal.length(), literal);
+        }
+        for (int start = 0; start + literal.length() <= end; ++start) {
+            if (regionMatches(input, start, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(CharSequence input, int start, String literal) {
+        if (start + literal.length() > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); ++i) {
+            if (input.charAt(start + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
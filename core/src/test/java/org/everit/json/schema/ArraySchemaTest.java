@@ -21,32 +21,20 @@ import static org.everit.json.schema.TestSupport.buildWithLocation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
 import org.json.JSONObject;
-import org.junit.BeforeClass;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
-import java.util.Locale;
-import java.util.ResourceBundle;
-
 public class ArraySchemaTest {
 
     private static final ResourceLoader loader = ResourceLoader.DEFAULT;
 
     private static final JSONObject ARRAYS = loader.readObj("arraytestcases.json");
 
-    @BeforeClass
-    public static void setI18N() {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
-    }
-
     @Test
     public void additionalItemsSchema() {
         ArraySchema.builder()
@@ -177,6 +165,31 @@ public class ArraySchemaTest {
         TestSupport.expectFailure(subject, "#", ARRAYS.get("nonUniqueItems"));
     }
 
+    @Test
+    public void uniqueItemsNumbersComparedByValue() {
+        ArraySchema subject = ArraySchema.builder().uniqueItems(true).build();
+        TestSupport.expectFailure(subject, "#", new JSONArray("[1, 2, 1.0]"));
+        TestSupport.expectFailure(subject, "#", new JSONArray("[{\"a\":[1.5]}, {\"a\":[1.50]}]"));
+        subject.validate(new JSONArray("[1, 1.5, 2]"));
+    }
+
+    @Test
+    public void uniqueItemsOfLargeArrays() {
+        ArraySchema subject = ArraySchema.builder().uniqueItems(true).build();
+        JSONArray strings = new JSONArray();
+        JSONArray integers = new JSONArray();
+        for (int i = 0; i < 50000; ++i) {
+            strings.put("id" + i);
+            integers.put(50000L - i);
+        }
+        subject.validate(strings);
+        subject.validate(integers);
+        strings.put("id49999");
+        integers.put(3);
+        TestSupport.expectFailure(subject, "#", strings);
+        TestSupport.expectFailure(subject, "#", integers);
+    }
+
     @Test
     public void uniqueItemsWithSameToString() {
         ArraySchema.builder().uniqueItems(true).build()
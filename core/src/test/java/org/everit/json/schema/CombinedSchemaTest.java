@@ -22,6 +22,7 @@ import static org.junit.Assert.assertThat;
 
 import java.util.List;
 
+import org.everit.json.schema.event.ValidationListener;
 import org.json.JSONObject;
 import org.junit.Assert;
 import org.junit.Test;
@@ -171,4 +172,138 @@ public class CombinedSchemaTest {
                 .expect();
     }
 
+    private static Schema unresolvedReference() {
+        // fails with an IllegalStateException if it gets validated
+        return ReferenceSchema.builder().build();
+    }
+
+    @Test
+    public void anyOfStopsAtFirstMatch() {
+        CombinedSchema subject = CombinedSchema.anyOf(asList(TrueSchema.INSTANCE, unresolvedReference())).build();
+        subject.validate("anything");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void anyOfChecksAllSubschemasForListener() {
+        CombinedSchema subject = CombinedSchema.anyOf(asList(TrueSchema.INSTANCE, unresolvedReference())).build();
+        Validator.builder().withListener(new ValidationListener() {
+        }).build().performValidation(subject, "anything");
+    }
+
+    @Test
+    public void oneOfFailsEarlyAtSecondMatch() {
+        CombinedSchema.Builder subject = CombinedSchema.oneOf(asList(TrueSchema.INSTANCE, TrueSchema.INSTANCE,
+                unresolvedReference()));
+        TestSupport.failureOf(subject)
+                .validator(Validator.builder().failEarly().build())
+                .input("anything")
+                .expectedKeyword("oneOf")
+                .expect();
+    }
+
+    @Test
+    public void allOfFailsEarlyAtFirstMismatch() {
+        CombinedSchema.Builder subject = CombinedSchema.allOf(asList(FalseSchema.INSTANCE, unresolvedReference()));
+        TestSupport.failureOf(subject)
+                .validator(Validator.builder().failEarly().build())
+                .input("anything")
+                .expectedKeyword("allOf")
+                .expect();
+    }
+
+    @Test
+    public void customIncrementalCriterion() {
+        CombinedSchema.IncrementalValidationCriterion atLeastTwo = new CombinedSchema.IncrementalValidationCriterion() {
+
+            @Override public boolean isSatisfied(int subschemaCount, int checkedCount, int matchingCount) {
+                return matchingCount >= 2;
+            }
+
+            @Override public boolean isViolated(int subschemaCount, int checkedCount, int matchingCount) {
+                return matchingCount + subschemaCount - checkedCount < 2;
+            }
+
+            @Override public void validate(int subschemaCount, int matchingCount) {
+                if (matchingCount < 2) {
+                    throw new ValidationException(null, "less than 2 subschemas matched", "atLeastTwo", null);
+                }
+            }
+        };
+        CombinedSchema subject = CombinedSchema.builder()
+                .criterion(atLeastTwo)
+                .subschemas(asList(TrueSchema.INSTANCE, TrueSchema.INSTANCE, unresolvedReference()))
+                .build();
+        subject.validate("anything");
+    }
+
+    private static ObjectSchema kind(String kind, Schema otherPropertySchema) {
+        return ObjectSchema.builder()
+                .addPropertySchema("kind", ConstSchema.builder().permittedValue(kind).build())
+                .addPropertySchema("other", otherPropertySchema)
+                .build();
+    }
+
+    @Test
+    public void oneOfDispatchesByDiscriminator() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(
+                kind("a", TrueSchema.INSTANCE),
+                kind("b", unresolvedReference()))).build();
+        subject.validate(new JSONObject("{\"kind\":\"a\",\"other\":1}"));
+    }
+
+    @Test
+    public void discriminatedFailureReportsAllSubschemas() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(
+                kind("a", FalseSchema.INSTANCE),
+                kind("b", TrueSchema.INSTANCE))).build();
+        try {
+            subject.validate(new JSONObject("{\"kind\":\"a\",\"other\":1}"));
+            Assert.fail("did not throw exception");
+        } catch (ValidationException e) {
+            assertEquals(2, e.getCausingExceptions().size());
+        }
+    }
+
+    @Test
+    public void subschemasNotAcceptingTypeAreSkipped() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(
+                NumberSchema.builder().build(),
+                CombinedSchema.allOf(asList(StringSchema.builder().build(), unresolvedReference())).build())).build();
+        subject.validate(1);
+    }
+
+    @Test
+    public void anyOfSetsDefaultValuesOfAllSubschemas() {
+        CombinedSchema subject = CombinedSchema.anyOf(asList(
+                ObjectSchema.builder().addPropertySchema("a", NumberSchema.builder().defaultValue(1).build()).build(),
+                ObjectSchema.builder().addPropertySchema("b", NumberSchema.builder().defaultValue(2).build()).build()))
+                .build();
+        JSONObject input = new JSONObject();
+        subject.validate(input);
+        assertThat(input, sameJsonAs(new JSONObject("{\"a\":1,\"b\":2}")));
+    }
+
+    @Test
+    public void oneOfSetsDefaultValuesOfNotDiscriminatedSubschemas() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(
+                kind("a", TrueSchema.INSTANCE),
+                kind("b", NumberSchema.builder().defaultValue(2).build()))).build();
+        JSONObject input = new JSONObject("{\"kind\":\"a\"}");
+        subject.validate(input);
+        assertThat(input, sameJsonAs(new JSONObject("{\"kind\":\"a\",\"other\":2}")));
+    }
+
+    @Test
+    public void typeMismatchReportsAllSubschemas() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(
+                NumberSchema.builder().build(),
+                StringSchema.builder().build())).build();
+        try {
+            subject.validate(true);
+            Assert.fail("did not throw exception");
+        } catch (ValidationException e) {
+            assertEquals(2, e.getCausingExceptions().size());
+        }
+    }
+
 }
@@ -28,17 +28,12 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import org.everit.json.schema.event.ConditionalSchemaMatchEvent;
 import org.everit.json.schema.event.ConditionalSchemaMismatchEvent;
 import org.everit.json.schema.event.ValidationListener;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
 import org.junit.Before;
-import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import java.util.Locale;
-import java.util.ResourceBundle;
-
 @RunWith(MockitoJUnitRunner.class)
 public class ConditionalSchemaEventsTest {
 
@@ -51,14 +46,6 @@ public class ConditionalSchemaEventsTest {
 
     private ValidationFailureReporter reporter;
 
-    @BeforeClass
-    public static void setI18N() {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
-    }
-
     @Before public void before() {
         reporter = new CollectingFailureReporter(schema);
     }
@@ -38,6 +38,13 @@ public class ConstSchemaTest {
         testFailure(2, 3);
     }
 
+    @Test
+    public void numbersAreComparedByValue() {
+        testSuccess(2, 2.0);
+        testSuccess(2.0, 2L);
+        testSuccess(new JSONObject("{\"a\":[1.50]}"), new JSONObject("{\"a\":[1.5]}"));
+    }
+
     @Test
     public void successWithNull() {
         testSuccess(null, JSONObject.NULL);
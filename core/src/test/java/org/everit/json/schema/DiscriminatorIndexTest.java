@@ -0,0 +1,106 @@
+package org.everit.json.schema;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class DiscriminatorIndexTest {
+
+    private static ObjectSchema pinning(String propertyName, Schema pinningSchema) {
+        return ObjectSchema.builder().addPropertySchema(propertyName, pinningSchema).build();
+    }
+
+    private static ObjectSchema constPinning(String propertyName, String value) {
+        return pinning(propertyName, ConstSchema.builder().permittedValue(value).build());
+    }
+
+    private static JSONObject subject(String propertyName, Object value) {
+        return new JSONObject(singletonMap(propertyName, value));
+    }
+
+    private static final ObjectSchema CAT = constPinning("kind", "cat");
+
+    private static final ObjectSchema DOG = constPinning("kind", "dog");
+
+    private static final ObjectSchema OTHER_DOG = constPinning("kind", "dog");
+
+    private static final CombinedSchema ONE_OF = CombinedSchema.oneOf(asList(CAT, DOG, OTHER_DOG)).build();
+
+    @Test
+    public void indexesByConstValue() {
+        DiscriminatorIndex index = DiscriminatorIndex.of(ONE_OF);
+        assertArrayEquals(new Schema[] { CAT }, index.candidates(subject("kind", "cat")));
+        assertArrayEquals(new Schema[] { DOG, OTHER_DOG }, index.candidates(subject("kind", "dog")));
+    }
+
+    @Test
+    public void unknownValueHasNoCandidates() {
+        assertEquals(0, DiscriminatorIndex.of(ONE_OF).candidates(subject("kind", "cow")).length);
+    }
+
+    @Test
+    public void notApplicableToOtherSubjects() {
+        DiscriminatorIndex index = DiscriminatorIndex.of(ONE_OF);
+        assertNull(index.candidates("cat"));
+        assertNull(index.candidates(new JSONObject()));
+        assertNull(index.candidates(subject("kind", 1)));
+    }
+
+    @Test
+    public void singleValueEnumReferenceAndAllOfArePinning() {
+        ObjectSchema enumPinned = pinning("kind", EnumSchema.builder().possibleValue("cat").build());
+        ReferenceSchema referencePinned = ReferenceSchema.builder().build();
+        referencePinned.setReferredSchema(DOG);
+        CombinedSchema allOfPinned = CombinedSchema.allOf(asList(
+                ObjectSchema.builder().addRequiredProperty("kind").build(),
+                constPinning("kind", "cow"))).build();
+        CombinedSchema subject = CombinedSchema.anyOf(asList(enumPinned, referencePinned, allOfPinned)).build();
+
+        DiscriminatorIndex index = DiscriminatorIndex.of(subject);
+
+        assertArrayEquals(new Schema[] { enumPinned }, index.candidates(subject("kind", "cat")));
+        assertArrayEquals(new Schema[] { referencePinned }, index.candidates(subject("kind", "dog")));
+        assertArrayEquals(new Schema[] { allOfPinned }, index.candidates(subject("kind", "cow")));
+    }
+
+    @Test
+    public void notIndexedIfSomeSubschemaIsNotPinning() {
+        ObjectSchema multiValueEnum = pinning("kind", EnumSchema.builder().possibleValue("a").possibleValue("b").build());
+        assertNull(DiscriminatorIndex.of(CombinedSchema.oneOf(asList(CAT, multiValueEnum)).build()));
+        assertNull(DiscriminatorIndex.of(CombinedSchema.oneOf(asList(CAT, constPinning("type", "dog"))).build()));
+        assertNull(DiscriminatorIndex.of(CombinedSchema.oneOf(asList(CAT, StringSchema.builder().build())).build()));
+    }
+
+    @Test
+    public void discriminatorSelectsProperty() {
+        ObjectSchema first = ObjectSchema.builder()
+                .addPropertySchema("kind", ConstSchema.builder().permittedValue("animal").build())
+                .addPropertySchema("name", ConstSchema.builder().permittedValue("cat").build())
+                .build();
+        ObjectSchema second = ObjectSchema.builder()
+                .addPropertySchema("kind", ConstSchema.builder().permittedValue("animal").build())
+                .addPropertySchema("name", ConstSchema.builder().permittedValue("dog").build())
+                .build();
+        CombinedSchema subject = CombinedSchema.oneOf(asList(first, second))
+                .unprocessedProperties(singletonMap("discriminator", (Object) singletonMap("propertyName", "name")))
+                .build();
+
+        DiscriminatorIndex index = DiscriminatorIndex.of(subject);
+
+        assertArrayEquals(new Schema[] { second }, index.candidates(subject("name", "dog")));
+    }
+
+    @Test
+    public void discriminatorOfNonPinnedPropertyIsIgnored() {
+        CombinedSchema subject = CombinedSchema.oneOf(asList(CAT, DOG))
+                .unprocessedProperties(singletonMap("discriminator", (Object) singletonMap("propertyName", "name")))
+                .build();
+        assertNull(DiscriminatorIndex.of(subject));
+    }
+
+}
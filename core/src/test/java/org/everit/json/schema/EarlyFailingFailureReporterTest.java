@@ -23,6 +23,19 @@ public class EarlyFailingFailureReporterTest {
         }
     }
 
+    @Test
+    public void failureInSubschemaContext_isReturned() {
+        EarlyFailingFailureReporter subject = createSubject();
+        ValidationException input = new ValidationException(BooleanSchema.INSTANCE, Boolean.class, "string");
+
+        ValidationException actual = subject.inContextOfSchema(BooleanSchema.INSTANCE, () -> {
+            subject.failure(input);
+            fail("did not stop at the first failure");
+        });
+
+        assertSame(input, actual);
+    }
+
     @Test
     public void testValidationFinished() {
         // should be no-op
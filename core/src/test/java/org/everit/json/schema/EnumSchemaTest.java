@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 
 import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -111,4 +112,33 @@ public class EnumSchemaTest {
         EnumSchema.builder().possibleValue(null).build().validate(JSONObject.NULL);
     }
 
+    @Test
+    public void numbersAreComparedByValue() {
+        possibleValues.add(1);
+        possibleValues.add(new JSONObject("{\"a\":[2.5]}"));
+        EnumSchema subject = subject().build();
+        subject.validate(1.0);
+        subject.validate(new BigDecimal("1.00"));
+        subject.validate(new JSONObject("{\"a\":[2.50]}"));
+        TestSupport.failureOf(subject().build())
+                .input(1.5)
+                .expectedKeyword("enum")
+                .expectedSchemaLocation(null)
+                .expect();
+    }
+
+    @Test
+    public void manyPossibleValues() {
+        possibleValues.clear();
+        IntStream.range(0, 1000).forEach(i -> possibleValues.add("code" + i));
+        EnumSchema subject = subject().build();
+        subject.validate("code0");
+        subject.validate("code999");
+        TestSupport.failureOf(subject)
+                .input("code1000")
+                .expectedKeyword("enum")
+                .expectedSchemaLocation(null)
+                .expect();
+    }
+
 }
@@ -0,0 +1,72 @@
+package org.everit.json.schema;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.BitSet;
+import java.util.Optional;
+
+import org.everit.json.schema.i18n.MessageCatalog;
+import org.everit.json.schema.internal.DateTimeFormatValidator;
+import org.junit.Test;
+
+public class FormatValidatorDefaultsTest {
+
+    private static final FormatValidator EVEN_LENGTH = subject -> subject.length() % 2 == 0 ?
+            Optional.empty() :
+            Optional.of("odd length: " + subject);
+
+    @Test
+    public void isValidAdaptsValidate() {
+        assertTrue(EVEN_LENGTH.isValid("ab"));
+        assertFalse(EVEN_LENGTH.isValid(new StringBuilder("abc")));
+    }
+
+    @Test
+    public void failureMessageAdaptsValidate() {
+        assertEquals("odd length: abc", EVEN_LENGTH.failureMessage(CharBuffer.wrap("abc")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failureMessageOfValidSubject() {
+        EVEN_LENGTH.failureMessage("ab");
+    }
+
+    @Test
+    public void validateAll() {
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+        assertEquals(expected, EVEN_LENGTH.validateAll(asList("", "a", "ab", new StringBuilder("abc"))));
+    }
+
+    @Test
+    public void builtInValidatorsCheckCharSequences() {
+        FormatValidator subject = new DateTimeFormatValidator();
+        assertTrue(subject.isValid(new StringBuilder("1963-06-19T08:30:06Z")));
+        assertFalse(subject.isValid(CharBuffer.wrap("1963-06-19")));
+        assertFalse(subject.isValid(null));
+        assertEquals(subject.validate("1963-06-19").get(), subject.failureMessage(CharBuffer.wrap("1963-06-19")));
+        BitSet expected = new BitSet();
+        expected.set(1);
+        assertEquals(expected, subject.validateAll(asList("1963-06-19T08:30:06Z", "x")));
+    }
+
+    @Test
+    public void dateTimeValidatorDoesNotAdaptValidate() throws NoSuchMethodException {
+        FormatValidator subject = new DateTimeFormatValidator();
+        assertNotEquals(FormatValidator.class,
+                subject.getClass().getMethod("isValid", CharSequence.class).getDeclaringClass());
+        assertNotEquals(FormatValidator.class,
+                subject.getClass().getMethod("failureMessage", CharSequence.class).getDeclaringClass());
+        assertNotEquals(FormatValidator.class, subject.getClass()
+                .getMethod("failureMessage", CharSequence.class, MessageCatalog.class).getDeclaringClass());
+        assertTrue(subject.failureMessage(new StringBuilder("1963-06-19"))
+                .startsWith("[1963-06-19] is not a valid date-time. Expected [yyyy-MM-dd'T'HH:mm:ssZ"));
+    }
+
+}
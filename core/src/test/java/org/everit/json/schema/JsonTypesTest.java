@@ -0,0 +1,80 @@
+package org.everit.json.schema;
+
+import static java.util.Arrays.asList;
+import static org.everit.json.schema.JsonTypes.ALL;
+import static org.everit.json.schema.JsonTypes.ARRAY;
+import static org.everit.json.schema.JsonTypes.BOOLEAN;
+import static org.everit.json.schema.JsonTypes.NULL;
+import static org.everit.json.schema.JsonTypes.NUMBER;
+import static org.everit.json.schema.JsonTypes.OBJECT;
+import static org.everit.json.schema.JsonTypes.STRING;
+import static org.junit.Assert.assertEquals;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonTypesTest {
+
+    @Test
+    public void typeIndexOf() {
+        assertEquals(NULL, 1 << JsonTypes.typeIndexOf(JSONObject.NULL));
+        assertEquals(NULL, 1 << JsonTypes.typeIndexOf(null));
+        assertEquals(BOOLEAN, 1 << JsonTypes.typeIndexOf(true));
+        assertEquals(NUMBER, 1 << JsonTypes.typeIndexOf(1.5));
+        assertEquals(STRING, 1 << JsonTypes.typeIndexOf(""));
+        assertEquals(OBJECT, 1 << JsonTypes.typeIndexOf(new JSONObject()));
+        assertEquals(ARRAY, 1 << JsonTypes.typeIndexOf(new JSONArray()));
+        assertEquals(-1, JsonTypes.typeIndexOf(new Object()));
+    }
+
+    @Test
+    public void typeCheckedSchemas() {
+        assertEquals(STRING, JsonTypes.acceptedBy(StringSchema.builder().build()));
+        assertEquals(ALL, JsonTypes.acceptedBy(StringSchema.builder().requiresString(false).build()));
+        assertEquals(NUMBER | NULL, JsonTypes.acceptedBy(NumberSchema.builder().nullable(true).build()));
+        assertEquals(OBJECT, JsonTypes.acceptedBy(ObjectSchema.builder().build()));
+        assertEquals(ARRAY, JsonTypes.acceptedBy(ArraySchema.builder().build()));
+        assertEquals(BOOLEAN, JsonTypes.acceptedBy(BooleanSchema.INSTANCE));
+        assertEquals(NULL, JsonTypes.acceptedBy(NullSchema.INSTANCE));
+        assertEquals(0, JsonTypes.acceptedBy(FalseSchema.INSTANCE));
+        assertEquals(ALL, JsonTypes.acceptedBy(TrueSchema.INSTANCE));
+        assertEquals(ALL & ~NULL, JsonTypes.acceptedBy(EmptySchema.builder().nullable(false).build()));
+    }
+
+    @Test
+    public void constAndEnum() {
+        assertEquals(OBJECT, JsonTypes.acceptedBy(ConstSchema.builder().permittedValue(new JSONObject()).build()));
+        assertEquals(NULL, JsonTypes.acceptedBy(ConstSchema.builder().permittedValue(JSONObject.NULL).build()));
+        assertEquals(STRING | NUMBER | ARRAY, JsonTypes.acceptedBy(EnumSchema.builder()
+                .possibleValue("a")
+                .possibleValue(1)
+                .possibleValue(new JSONArray())
+                .build()));
+    }
+
+    @Test
+    public void combinedSchemas() {
+        Schema string = StringSchema.builder().build();
+        Schema number = NumberSchema.builder().build();
+        assertEquals(STRING | NUMBER, JsonTypes.acceptedBy(CombinedSchema.anyOf(asList(string, number)).build()));
+        assertEquals(STRING | NUMBER, JsonTypes.acceptedBy(CombinedSchema.oneOf(asList(string, number)).build()));
+        assertEquals(STRING, JsonTypes.acceptedBy(CombinedSchema.allOf(asList(string, TrueSchema.INSTANCE)).build()));
+        assertEquals(ALL, JsonTypes.acceptedBy(NotSchema.builder().mustNotMatch(string).build()));
+    }
+
+    @Test
+    public void references() {
+        ReferenceSchema unresolved = ReferenceSchema.builder().build();
+        assertEquals(ALL, JsonTypes.acceptedBy(unresolved));
+
+        ReferenceSchema recursive = ReferenceSchema.builder().build();
+        recursive.setReferredSchema(CombinedSchema.anyOf(asList(StringSchema.builder().build(), recursive)).build());
+        assertEquals(ALL, JsonTypes.acceptedBy(recursive));
+
+        ReferenceSchema toString = ReferenceSchema.builder().build();
+        toString.setReferredSchema(StringSchema.builder().build());
+        assertEquals(STRING, JsonTypes.acceptedBy(toString));
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.everit.json.schema;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import junitparams.naming.TestCaseName;
+
+@RunWith(JUnitParamsRunner.class)
+public class JsonValuesTest {
+
+    private Object[][] equalValues() {
+        return new Object[][] {
+                { "null, JSONObject.NULL", null, JSONObject.NULL },
+                { "int, double", 1, 1.0 },
+                { "long, BigDecimal", 1L, new BigDecimal("1.000") },
+                { "double, BigDecimal", 0.1, new BigDecimal("0.10") },
+                { "float, double", 0.1f, (double) 0.1f },
+                { "float, BigDecimal", 0.1f, BigDecimal.valueOf((double) 0.1f) },
+                { "negative zero", -0.0, 0 },
+                { "large double, BigInteger", 1e20, BigInteger.TEN.pow(20) },
+                { "Long.MAX_VALUE, BigDecimal", Long.MAX_VALUE, new BigDecimal(Long.MAX_VALUE) },
+                { "JSONObject, Map", new JSONObject("{\"a\":[1, {\"b\":null}]}"),
+                        singletonMap("a", asList(1.0, singletonMap("b", null))) },
+                { "key order", new JSONObject("{\"a\":1,\"b\":2}"), new JSONObject("{\"b\":2,\"a\":1}") },
+                { "JSONArray, List", new JSONArray("[\"a\", true]"), asList("a", true) }
+        };
+    }
+
+    private Object[][] differentValues() {
+        return new Object[][] {
+                { "null, false", null, false },
+                { "number, string", 1, "1" },
+                { "int, double", 1, 1.5 },
+                { "2^53 + 1", (1L << 53) + 1, (double) (1L << 53) },
+                { "object, array", new JSONObject(), new JSONArray() },
+                { "missing key", new JSONObject("{\"a\":null}"), new JSONObject("{\"b\":null}") },
+                { "array order", new JSONArray("[1, 2]"), asList(2, 1) }
+        };
+    }
+
+    @Test
+    @Parameters(method = "equalValues")
+    @TestCaseName("{0} (equal)")
+    public void equalValues(String testcaseName, Object value1, Object value2) {
+        assertTrue(JsonValues.equal(value1, value2));
+        assertTrue(JsonValues.equal(value2, value1));
+        assertEquals(JsonValues.hash(value1), JsonValues.hash(value2));
+    }
+
+    @Test
+    @Parameters(method = "differentValues")
+    @TestCaseName("{0} (different)")
+    public void differentValues(String testcaseName, Object value1, Object value2) {
+        assertFalse(JsonValues.equal(value1, value2));
+        assertFalse(JsonValues.equal(value2, value1));
+    }
+
+    @Test
+    public void valueSet() {
+        JsonValueSet subject = new JsonValueSet(asList("a", 1, null, singletonMap("x", asList(1, 2))));
+        assertTrue(subject.contains("a"));
+        assertTrue(subject.contains(1.0));
+        assertTrue(subject.contains(JSONObject.NULL));
+        assertTrue(subject.contains(new JSONObject("{\"x\":[1, 2.0]}")));
+        assertFalse(subject.contains("b"));
+        assertFalse(subject.contains(new JSONObject("{\"x\":[2, 1]}")));
+    }
+
+}
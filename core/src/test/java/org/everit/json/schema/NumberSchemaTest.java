@@ -146,6 +146,55 @@ public class NumberSchemaTest {
                 .build().validate(0.0075);
     }
 
+    @Test
+    public void longLimitIsComparedExactlyToDouble() {
+        NumberSchema subject = NumberSchema.builder().minimum(9007199254740993L).build();
+        TestSupport.expectFailure(subject, 9007199254740992.0);
+        subject.validate(9007199254740994.0);
+    }
+
+    @Test
+    public void doubleLimitIsComparedExactlyToLong() {
+        NumberSchema subject = NumberSchema.builder().maximum(0.1).build();
+        subject.validate(0);
+        subject.validate(-1L);
+        TestSupport.expectFailure(subject, 1);
+        TestSupport.expectFailure(NumberSchema.builder().exclusiveMaximum(1.0).build(), 1L);
+        TestSupport.expectFailure(NumberSchema.builder().maximum(10).build(), 10.000000000000002);
+    }
+
+    @Test
+    public void negativeZeroLimit() {
+        TestSupport.expectFailure(NumberSchema.builder().exclusiveMinimum(-0.0).build(), 0.0);
+        TestSupport.expectFailure(NumberSchema.builder().exclusiveMinimum(-0.0).build(), 0L);
+    }
+
+    @Test
+    public void bigIntegerSubjectIsComparedExactly() {
+        NumberSchema subject = NumberSchema.builder().maximum(Long.MAX_VALUE).build();
+        TestSupport.expectFailure(subject, BigInteger.ONE.shiftLeft(64));
+        subject.validate(BigInteger.valueOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void integralMultipleOf() {
+        NumberSchema subject = NumberSchema.builder().multipleOf(3).build();
+        subject.validate(9);
+        subject.validate(-9L);
+        subject.validate(9.0);
+        TestSupport.expectFailure(subject, 10L);
+        TestSupport.expectFailure(subject, 9.5);
+        TestSupport.expectFailure(subject, 9007199254740993.0 * 4);
+    }
+
+    @Test
+    public void decimalMultipleOf() {
+        NumberSchema subject = NumberSchema.builder().multipleOf(0.01).build();
+        subject.validate(0.07);
+        subject.validate(3);
+        TestSupport.expectFailure(subject, 0.075);
+    }
+
     @Test
     public void success() {
         NumberSchema.builder()
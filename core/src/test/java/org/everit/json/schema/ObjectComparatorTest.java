@@ -1,6 +1,9 @@
 package org.everit.json.schema;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -36,4 +39,30 @@ public class ObjectComparatorTest {
         assertFalse(ObjectComparator.deepEquals(arg2, arg1));
     }
 
+    private Object[][] equalCases() {
+        return new Object[][] {
+                { "integer and double", 1, 1.0 },
+                { "long and BigDecimal", 10L, new BigDecimal("10.00") },
+                { "Long.MIN_VALUE and double", Long.MIN_VALUE, (double) Long.MIN_VALUE },
+                { "null and JSONObject.NULL", null, JSONObject.NULL },
+                { "objects with different key order", new JSONObject("{\"a\":1,\"B\":[2.0]}"),
+                        new JSONObject("{\"B\":[2],\"a\":1.0}") },
+                { "empty objects", EMPTY_OBJECT, new JSONObject() }
+        };
+    }
+
+    @Test
+    @Parameters(method = "equalCases")
+    @TestCaseName("{0} (true)")
+    public void equal(String testcaseName, Object arg1, Object arg2) {
+        assertTrue(ObjectComparator.deepEquals(arg1, arg2));
+        assertTrue(ObjectComparator.deepEquals(arg2, arg1));
+    }
+
+    @Test
+    public void numbersBeyondDoublePrecision() {
+        assertFalse(ObjectComparator.deepEquals((1L << 53) + 1, (double) (1L << 53)));
+        assertFalse(ObjectComparator.deepEquals(Long.MAX_VALUE, 0x1p63));
+    }
+
 }
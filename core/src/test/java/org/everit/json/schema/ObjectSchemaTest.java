@@ -25,12 +25,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
 import org.everit.json.schema.loader.SchemaLoader;
+import org.everit.json.schema.regexp.GuardedRegexpFactory;
 import org.json.JSONObject;
 import org.json.JSONPointer;
 import org.junit.Test;
@@ -284,6 +286,21 @@ public class ObjectSchemaTest {
                 OBJECTS.get("patternPropertyViolation"));
     }
 
+    @Test(timeout = 10000)
+    public void patternPropertyExceedingMatchingBudgetIsNotAdditionalProperty() {
+        ObjectSchema subject = buildWithLocation(ObjectSchema.builder()
+                .patternProperty(new GuardedRegexpFactory().createHandler("^(a+)+$"), EmptySchema.INSTANCE)
+                .additionalProperties(false));
+        try {
+            subject.validate(new JSONObject().put("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!", 1));
+            fail("did not throw exception");
+        } catch (ValidationException e) {
+            assertEquals("patternProperties", e.getKeyword());
+            assertEquals("#: matching key [aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!] against pattern ^(a+)+$ exceeded"
+                    + " the matching budget", e.getMessage());
+        }
+    }
+
     @Test
     public void patternPropsOverrideAdditionalProps() {
         ObjectSchema.builder()
@@ -480,4 +497,65 @@ public class ObjectSchemaTest {
     public void requiresObject_stillNullable() {
         ObjectSchema.builder().requiresObject(true).nullable(true).build().validate(JSONObject.NULL);
     }
+
+    @Test
+    public void declaredPropertyAlsoMatchingPattern() {
+        ObjectSchema subject = ObjectSchema.builder()
+                .addPropertySchema("a_num", new NumberSchema())
+                .patternProperty("^a_", NumberSchema.builder().minimum(10).build())
+                .additionalProperties(false)
+                .build();
+        subject.validate(new JSONObject("{\"a_num\":10,\"a_other\":11}"));
+        TestSupport.failureOf(subject)
+                .expectedViolatedSchema(subject.getRegexpPatternProperties().values().iterator().next())
+                .expectedPointer("#/a_num")
+                .expectedSchemaLocation(null)
+                .input(new JSONObject("{\"a_num\":1}"))
+                .expect();
+    }
+
+    @Test
+    public void defaultsOfManyProperties() {
+        ObjectSchema.Builder builder = ObjectSchema.builder();
+        for (int i = 0; i < 100; ++i) {
+            builder.addPropertySchema("prop" + i, EmptySchema.builder().defaultValue(i).build());
+        }
+        JSONObject subject = new JSONObject("{\"prop0\":\"x\",\"prop70\":\"y\"}");
+
+        builder.build().validate(subject);
+
+        assertEquals(100, subject.length());
+        assertEquals("x", subject.get("prop0"));
+        assertEquals("y", subject.get("prop70"));
+        assertEquals(99, subject.get("prop99"));
+    }
+
+    @Test
+    public void failureOrder() {
+        ObjectSchema subject = ObjectSchema.builder()
+                .addRequiredProperty("r")
+                .schemaDependency("a", ObjectSchema.builder().addRequiredProperty("z").build())
+                .propertyNameSchema(StringSchema.builder().maxLength(1).build())
+                .addPropertySchema("a", NumberSchema.builder().minimum(10).build())
+                .patternProperty("^b", new StringSchema())
+                .additionalProperties(false)
+                .build();
+        JSONObject input = new JSONObject("{\"a\":1,\"bb\":1,\"c\":1}");
+        Map<String, List<String>> failuresByKey = new HashMap<>();
+        failuresByKey.put("a", asList("#/a: 1 is not greater or equal to 10"));
+        failuresByKey.put("bb", asList("#/bb: expected maxLength: 1, actual: 2",
+                "#/bb: expected type: String, found: Integer"));
+        failuresByKey.put("c", asList("#: extraneous key [c] is not permitted"));
+        List<String> expected = new ArrayList<>(asList("#: required key [r] not found",
+                "#: required key [z] not found"));
+        for (String key : input.keySet()) {
+            expected.addAll(failuresByKey.get(key));
+        }
+        try {
+            subject.validate(input);
+            fail("did not throw exception");
+        } catch (ValidationException e) {
+            assertEquals(expected, e.getAllMessages());
+        }
+    }
 }
@@ -4,11 +4,17 @@ import static org.everit.json.schema.JSONMatcher.sameJsonAs;
 import static org.everit.json.schema.TestSupport.buildWithLocation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.everit.json.schema.internal.DateTimeFormatValidator;
+import org.everit.json.schema.internal.EmailFormatValidator;
 import org.everit.json.schema.loader.SchemaLoader;
+import org.everit.json.schema.regexp.GuardedRegexpFactory;
 import org.everit.json.schema.regexp.RE2JRegexpFactory;
 import org.json.JSONObject;
 import org.junit.Assert;
@@ -35,6 +41,67 @@ public class StringSchemaTest {
                 .expect();
     }
 
+    @Test
+    public void formatFailureMessageIsCreatedOnDemand() {
+        AtomicInteger failureMessageCount = new AtomicInteger();
+        FormatValidator formatValidator = new FormatValidator() {
+
+            @Override public Optional<String> validate(String subject) {
+                throw new AssertionError("validate(String) should not be called");
+            }
+
+            @Override public boolean isValid(CharSequence subject) {
+                return false;
+            }
+
+            @Override public String failureMessage(CharSequence subject) {
+                failureMessageCount.incrementAndGet();
+                return "violation";
+            }
+        };
+        StringSchema subject = buildWithLocation(StringSchema.builder().formatValidator(formatValidator));
+        assertFalse(subject.isValid("string"));
+        assertEquals(0, failureMessageCount.get());
+        TestSupport.failureOf(subject)
+                .expectedKeyword("format")
+                .expectedMessageFragment("violation")
+                .input("string")
+                .expect();
+        assertEquals(1, failureMessageCount.get());
+    }
+
+    @Test
+    public void dateTimeFormatFailure() {
+        StringSchema subject = buildWithLocation(StringSchema.builder()
+                .formatValidator(new DateTimeFormatValidator()));
+        assertFalse(subject.isValid("1963-06-19"));
+        TestSupport.failureOf(subject)
+                .expectedKeyword("format")
+                .expectedMessageFragment("[1963-06-19] is not a valid date-time")
+                .input("1963-06-19")
+                .expect();
+    }
+
+    @Test
+    public void overriddenValidateOfBuiltInFormatValidatorIsUsed() {
+        StringSchema subject = buildWithLocation(StringSchema.builder()
+                .formatValidator(new EmailFormatValidator() {
+
+                    @Override public Optional<String> validate(String subject) {
+                        if (subject.endsWith("@example.org")) {
+                            return Optional.of("example address");
+                        }
+                        return super.validate(subject);
+                    }
+                }));
+        subject.validate("a@b.org");
+        TestSupport.failureOf(subject)
+                .expectedKeyword("format")
+                .expectedMessageFragment("example address")
+                .input("a@example.org")
+                .expect();
+    }
+
     @Test
     public void formatSuccess() {
         StringSchema subject = StringSchema.builder().formatValidator(subj -> Optional.empty()).build();
@@ -59,6 +126,47 @@ public class StringSchemaTest {
                 .expect();
     }
 
+    @Test
+    public void maxLengthMessageHasExactLength() {
+        StringSchema subject = buildWithLocation(StringSchema.builder().maxLength(3));
+        TestSupport.failureOf(subject)
+                .expectedKeyword("maxLength")
+                .expectedMessageFragment("actual: 10")
+                .input("😀abcdefghi")
+                .expect();
+    }
+
+    @Test
+    public void minLengthMessageHasExactLength() {
+        StringSchema subject = buildWithLocation(StringSchema.builder().minLength(4));
+        TestSupport.failureOf(subject)
+                .expectedKeyword("minLength")
+                .expectedMessageFragment("actual: 3")
+                .input("😀😀a")
+                .expect();
+    }
+
+    @Test
+    public void lengthIsCountedInCodePoints() {
+        StringSchema subject = StringSchema.builder().minLength(2).maxLength(2).build();
+        subject.validate("😀😀");
+        subject.validate("😀a");
+        subject.validate("\uDE00\uD83D");
+        TestSupport.expectFailure(subject, "😀");
+        TestSupport.expectFailure(subject, "😀a😀");
+    }
+
+    @Test
+    public void hasMoreCodePointsThan() {
+        assertTrue(StringSchemaCompiler.hasMoreCodePointsThan("", -1));
+        assertFalse(StringSchemaCompiler.hasMoreCodePointsThan("", 0));
+        assertFalse(StringSchemaCompiler.hasMoreCodePointsThan("abc", 3));
+        assertTrue(StringSchemaCompiler.hasMoreCodePointsThan("abcd", 3));
+        assertFalse(StringSchemaCompiler.hasMoreCodePointsThan("a😀😀", 3));
+        assertTrue(StringSchemaCompiler.hasMoreCodePointsThan("a😀\uD83D", 2));
+        assertTrue(StringSchemaCompiler.hasMoreCodePointsThan(new String(new char[1 << 22]), 1000));
+    }
+
     @Test
     public void multipleViolations() {
         try {
@@ -182,6 +290,16 @@ public class StringSchemaTest {
         assertNull(subject.getPattern());
     }
 
+    @Test(timeout = 10000)
+    public void patternExceedingMatchingBudget() {
+        TestSupport.failureOf(StringSchema.builder()
+                .pattern(new GuardedRegexpFactory().createHandler("^(a+)+$")))
+                .expectedKeyword("pattern")
+                .expectedMessageFragment("exceeded the matching budget")
+                .input("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!")
+                .expect();
+    }
+
     @Test
     public void regexpFactoryIsUsedByLoader() {
         SchemaLoader loader = SchemaLoader.builder()
@@ -17,6 +17,7 @@ package org.everit.json.schema;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -172,6 +173,7 @@ public class TestSupport {
     }
 
     public static void expectFailure(final Failure failure) {
+        assertFalse(failure.subject + " is valid for " + failure.input, failure.validator.isValid(failure.subject, failure.input));
         try {
             failure.validator.performValidation(failure.subject, failure.input);
             fail(failure.subject + " did not fail for " + failure.input);
@@ -194,6 +196,7 @@ public class TestSupport {
 
     private static void test(final Schema failingSchema, final String expectedPointer,
             final Object input) {
+        assertFalse(failingSchema + " is valid for " + input, failingSchema.isValid(input));
         try {
             failingSchema.validate(input);
             fail(failingSchema + " did not fail for " + input);
@@ -110,6 +110,28 @@ public class ValidationExceptionTest {
 
     }
 
+    @Test
+    public void prependDoesNotChangeOriginal() {
+        ValidationException original = createDummyException("#/a");
+        original.prepend("b");
+        assertEquals("#/a", original.getPointerToViolation());
+    }
+
+    @Test
+    public void prependToNestedCausingExceptions() {
+        ValidationException cause = createDummyException("#/a");
+        ValidationException wrapper = new ValidationException(rootSchema, new StringBuilder("#"), "wrapper",
+                Arrays.asList(cause), null, null);
+        ValidationException root = new ValidationException(rootSchema, new StringBuilder("#"), "root",
+                Arrays.asList(wrapper), null, null);
+        ValidationException actual = root.prepend("x/y").prepend("0");
+        assertEquals("#/0/x~1y", actual.getPointerToViolation());
+        ValidationException actualWrapper = actual.getCausingExceptions().get(0);
+        assertEquals("#/0/x~1y", actualWrapper.getPointerToViolation());
+        assertEquals("#/0/x~1y/a", actualWrapper.getCausingExceptions().get(0).getPointerToViolation());
+        assertEquals(Arrays.asList("#/0/x~1y/a: stuff went wrong"), actual.getAllMessages());
+    }
+
     private ValidationException subjectWithCauses(final ValidationException... causes) {
         if (causes.length == 0) {
             return new ValidationException("");
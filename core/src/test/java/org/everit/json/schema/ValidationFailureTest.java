@@ -0,0 +1,73 @@
+package org.everit.json.schema;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.everit.json.schema.i18n.MessageCatalog;
+import org.junit.Test;
+
+public class ValidationFailureTest {
+
+    private static final StringSchema SCHEMA = StringSchema.builder().schemaLocation("#/properties/str").build();
+
+    @Test
+    public void messageIsFormattedLazily() {
+        int[] computeCount = { 0 };
+        ValidationFailure.DeferredArgument actualLength = () -> {
+            ++computeCount[0];
+            return 1;
+        };
+        ValidationFailure failure = ValidationFailure.ofKeyword(SCHEMA, "minLength", MessageCatalog.DEFAULT,
+                "string.minLength", new Object[] { 2, actualLength });
+        assertEquals(0, computeCount[0]);
+        ValidationException actual = failure.toException();
+        assertEquals(1, computeCount[0]);
+        assertEquals("#: expected minLength: 2, actual: 1", actual.getMessage());
+        assertEquals("minLength", actual.getKeyword());
+        assertEquals("#/properties/str", actual.getSchemaLocation());
+        assertSame(SCHEMA, actual.getViolatedSchema());
+    }
+
+    @Test
+    public void prependBuildsPointer() {
+        ValidationException actual = ValidationFailure.ofType(SCHEMA, MessageCatalog.DEFAULT, String.class, 1)
+                .prepend("a/b")
+                .prepend("0")
+                .toException();
+        assertEquals("#/0/a~1b", actual.getPointerToViolation());
+        assertEquals("#/0/a~1b: expected type: String, found: Integer", actual.getMessage());
+    }
+
+    @Test
+    public void causesArePrependedOnce() {
+        ValidationFailure cause1 = ValidationFailure.ofMessage(SCHEMA, "format", "invalid").prepend("x~y");
+        ValidationFailure cause2 = ValidationFailure.ofMessage(SCHEMA, "format", "invalid");
+        ValidationException actual = ValidationFailure.wrapping(SCHEMA, MessageCatalog.DEFAULT, asList(cause1, cause2))
+                .prepend("a/b")
+                .toException();
+        assertEquals("#/a~1b", actual.getPointerToViolation());
+        assertEquals("#/a~1b: 2 schema violations found", actual.getMessage());
+        assertEquals("#/a~1b/x~0y", actual.getCausingExceptions().get(0).getPointerToViolation());
+        assertEquals("#/a~1b", actual.getCausingExceptions().get(1).getPointerToViolation());
+    }
+
+    @Test
+    public void existingExceptionIsReturned() {
+        ValidationException exception = new ValidationException(SCHEMA, String.class, 1);
+        assertSame(exception, ValidationFailure.of(exception).toException());
+    }
+
+    @Test
+    public void existingExceptionIsPrepended() {
+        ObjectSchema objectSchema = ObjectSchema.builder().build();
+        ValidationException exception = new ValidationException(SCHEMA, String.class, 1);
+        ValidationException actual = ValidationFailure.of(exception)
+                .prepend("str")
+                .prepend("obj", objectSchema)
+                .toException();
+        assertEquals("#/obj/str", actual.getPointerToViolation());
+        assertSame(objectSchema, actual.getViolatedSchema());
+    }
+
+}
@@ -1,10 +1,16 @@
 package org.everit.json.schema;
 
+import static java.util.Arrays.asList;
 import static org.everit.json.schema.TestSupport.loadAsV7;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ListResourceBundle;
+import java.util.Locale;
+
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -87,4 +93,74 @@ public class ValidatorTest {
                 .expect();
     }
 
+    @Test
+    public void isValidReturnsFalseForInvalidInput() {
+        Validator subject = Validator.builder().build();
+        assertFalse(subject.isValid(ObjectSchemaTest.MULTIPLE_VIOLATIONS_SCHEMA,
+                ResourceLoader.DEFAULT.readObj("objecttestcases.json").get("multipleViolations")));
+    }
+
+    @Test
+    public void isValidReturnsTrueForValidInput() {
+        Schema schema = CombinedSchema.anyOf(asList(StringSchema.builder().minLength(5).build(),
+                NumberSchema.builder().requiresInteger(true).build())).build();
+        Validator subject = Validator.builder().build();
+        assertTrue(subject.isValid(schema, 3));
+        assertTrue(subject.isValid(schema, "hello"));
+        assertFalse(subject.isValid(schema, "hi"));
+    }
+
+    private static MessageCatalog catalogOf(Object[][] contents) {
+        return MessageCatalog.of(new ListResourceBundle() {
+
+            @Override protected Object[][] getContents() {
+                return contents;
+            }
+
+            @Override public Locale getLocale() {
+                return Locale.ROOT;
+            }
+        });
+    }
+
+    @Test
+    public void isValidDoesNotRequireMessages() {
+        Validator subject = Validator.builder().messageCatalog(catalogOf(new Object[0][])).build();
+        assertFalse(subject.isValid(StringSchema.builder().maxLength(1).build(), "foo"));
+    }
+
+    @Test
+    public void messagesAreLookedUpInMessageCatalog() {
+        MessageCatalog catalog = catalogOf(new Object[][] {
+                { "string.maxLength", "zu lang: %2$d > %1$d" },
+                { "format.email", "[%1$s] ist keine E-Mail-Adresse" },
+                { "format", "[%1$s] ist kein korrektes %2$s" },
+                { "validations.count", "%1$d Fehler" }
+        });
+        Schema schema = ObjectSchema.builder()
+                .addPropertySchema("a", StringSchema.builder().maxLength(1).build())
+                .addPropertySchema("b", StringSchema.builder().formatValidator(FormatValidator.forFormat("email")).build())
+                .addPropertySchema("c",
+                        StringSchema.builder().formatValidator(FormatValidator.forFormat("date-time")).build())
+                .build();
+        try {
+            Validator.builder().messageCatalog(catalog).build()
+                    .performValidation(schema, new JSONObject("{\"a\":\"foo\",\"b\":\"bar\",\"c\":\"1963-06-19\"}"));
+            fail("did not throw exception");
+        } catch (ValidationException e) {
+            assertEquals("#: 3 Fehler", e.getMessage());
+            assertEquals(asList("#/a: zu lang: 3 > 1", "#/b: [bar] ist keine E-Mail-Adresse",
+                    "#/c: [1963-06-19] ist kein korrektes date-time"), e.getAllMessages());
+        }
+    }
+
+    @Test
+    public void isValidUsesReadWriteContext() {
+        Validator subject = Validator.builder()
+                .readWriteContext(ReadWriteContext.READ)
+                .build();
+        assertFalse(subject.isValid(RW_SCHEMA, new JSONObject("{\"writeOnlyProp\":3}")));
+        assertTrue(subject.isValid(RW_SCHEMA, new JSONObject("{\"readOnlyProp\":\"foo\"}")));
+    }
+
 }
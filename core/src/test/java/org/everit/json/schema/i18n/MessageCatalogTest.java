@@ -0,0 +1,92 @@
+package org.everit.json.schema.i18n;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class MessageCatalogTest {
+
+    private static final ResourceBundle BUNDLE = ResourceBundle.getBundle("MessageBundle", new Locale("en", "US"));
+
+    private static MessageCatalog catalogOf(String key, String template) {
+        return MessageCatalog.of(new ListResourceBundle() {
+
+            @Override protected Object[][] getContents() {
+                return new Object[][] { { key, template } };
+            }
+        });
+    }
+
+    public Object[] keys() {
+        return Collections.list(BUNDLE.getKeys()).toArray();
+    }
+
+    @Test
+    @Parameters(method = "keys")
+    public void formatsBundledTemplatesLikeStringFormat(String key) {
+        Object[] args = { 42, 7L, BigInteger.ONE };
+        assertEquals(String.format(BUNDLE.getString(key), args), MessageCatalog.DEFAULT.format(key, args));
+    }
+
+    public Object[][] templates() {
+        return new Object[][] {
+                { "no arguments", new Object[0] },
+                { "%s and %s", new Object[] { "a", "b" } },
+                { "%2$s before %1$s", new Object[] { "a", "b" } },
+                { "%1$s, %s, %1$s, %s", new Object[] { "a", "b" } },
+                { "%1$d of %2$d", new Object[] { 1, BigInteger.TEN } },
+                { "%1$s is %2$s", new Object[] { null, "null" } },
+                { "100%% of %1$s", new Object[] { "a" } },
+                { "%1$5s|%2$-3d|", new Object[] { "a", 1 } },
+                { "%1$d", new Object[] { (short) 3 } },
+                { "%d%n", new Object[] { 3 } },
+                { "%s", new Object[] { "a", "unused" } },
+        };
+    }
+
+    @Test
+    @Parameters(method = "templates")
+    public void formatsLikeStringFormat(String template, Object[] args) {
+        assertEquals(String.format(template, args), catalogOf("key", template).format("key", args));
+    }
+
+    @Test(expected = java.util.IllegalFormatConversionException.class)
+    public void nonIntegralDecimalArgumentFails() {
+        catalogOf("key", "%1$d").format("key", 1.5);
+    }
+
+    @Test(expected = java.util.MissingFormatArgumentException.class)
+    public void missingArgumentFails() {
+        catalogOf("key", "%1$s %2$s").format("key", "a");
+    }
+
+    @Test(expected = MissingResourceException.class)
+    public void missingKeyFails() {
+        MessageCatalog.DEFAULT.format("no.such.key");
+    }
+
+    @Test
+    public void getStringReturnsTemplate() {
+        assertEquals(BUNDLE.getString("format.email"), MessageCatalog.DEFAULT.getString("format.email"));
+    }
+
+    @Test
+    public void catalogOfLocaleIsCreatedOnce() {
+        assertSame(MessageCatalog.DEFAULT, MessageCatalog.forLocale(new Locale("en", "US")));
+        assertSame(MessageCatalog.forLocale(Locale.GERMANY), MessageCatalog.forLocale(Locale.GERMANY));
+    }
+
+}
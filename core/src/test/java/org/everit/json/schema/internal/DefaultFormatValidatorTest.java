@@ -17,16 +17,13 @@
 package org.everit.json.schema.internal;
 
 import org.everit.json.schema.FormatValidator;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
-import org.junit.BeforeClass;
 import org.junit.Test;
 
-import java.util.Locale;
 import java.util.Optional;
-import java.util.ResourceBundle;
 
 import static org.everit.json.schema.internal.ValidatorTestSupport.assertFailure;
 import static org.everit.json.schema.internal.ValidatorTestSupport.assertSuccess;
+import static org.junit.Assert.assertTrue;
 
 public class DefaultFormatValidatorTest {
 
@@ -35,14 +32,6 @@ public class DefaultFormatValidatorTest {
     private static final String IPV6_ADDR = "2001:db8:85a3:0:0:8a2e:370:7334";
 
 
-    @BeforeClass
-    public static void setI18N() {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
-    }
-
     @Test
     public void dateTimeExceedingLimits() {
         assertFailure("1996-60-999T16:39:57-08:00", new DateTimeFormatValidator(),
@@ -235,6 +224,28 @@ public class DefaultFormatValidatorTest {
         assertFailure("not_a_valid_host_name", new HostnameFormatValidator(), "[not_a_valid_host_name] is not a valid hostname");
     }
 
+    @Test
+    public void idnEmailFailure() {
+        assertFailure("실례.@실례.테스트", new IdnEmailFormatValidator(),
+                "[실례.@실례.테스트] is not a valid internationalized email address");
+    }
+
+    @Test
+    public void idnEmailSuccess() {
+        assertSuccess("실례@실례.테스트", new IdnEmailFormatValidator());
+    }
+
+    @Test
+    public void idnHostnameFailure() {
+        assertFailure("〮실례.테스트", new IdnHostnameFormatValidator(),
+                "[〮실례.테스트] is not a valid internationalized hostname");
+    }
+
+    @Test
+    public void idnHostnameSuccess() {
+        assertSuccess("실례.테스트", new IdnHostnameFormatValidator());
+    }
+
     @Test
     public void ipv4Failure() {
         assertFailure("asd", new IPV4Validator(), "[asd] is not a valid ipv4 address");
@@ -316,6 +327,31 @@ public class DefaultFormatValidatorTest {
     }
 
 
+    @Test
+    public void iriFailure() {
+        assertFailure("/パス", new IRIFormatValidator(), "[/パス] is not a valid IRI");
+    }
+
+    @Test
+    public void iriSuccess() {
+        assertSuccess("http://例え.jp/パス", new IRIFormatValidator());
+    }
+
+    @Test
+    public void iriReferenceFailure() {
+        assertFailure("パス:x", new IRIReferenceFormatValidator(), "[パス:x] is not a valid IRI reference");
+    }
+
+    @Test
+    public void iriReferenceSuccess() {
+        assertSuccess("/パス", new IRIReferenceFormatValidator());
+    }
+
+    @Test
+    public void uriReferenceNullFailure() {
+        assertFailure(null, new URIReferenceFormatValidator(), "[null] is not a valid URI reference");
+    }
+
     @Test
     public void uriFailure() {
         assertFailure("12 34", new URIFormatValidator(), "[12 34] is not a valid URI");
@@ -362,4 +398,19 @@ public class DefaultFormatValidatorTest {
         assertFailure("^(abc]", new RegexFormatValidator(), "[^(abc]] is not a valid regular expression");
     }
 
+    @Test
+    public void regexNullFailure() {
+        assertFailure(null, new RegexFormatValidator(), "[null] is not a valid regular expression");
+    }
+
+    @Test
+    public void regexValidityCacheIsBounded() {
+        RegexFormatValidator subject = new RegexFormatValidator();
+        for (int i = 0; i < RegexFormatValidator.MAX_CACHED_PATTERNS + 10; ++i) {
+            assertSuccess("^a{" + i + "}$", subject);
+            assertFailure("^(a{" + i + "}$", subject, "[^(a{" + i + "}$] is not a valid regular expression");
+        }
+        assertTrue(RegexFormatValidator.cachedPatternCount() <= RegexFormatValidator.MAX_CACHED_PATTERNS);
+    }
+
 }
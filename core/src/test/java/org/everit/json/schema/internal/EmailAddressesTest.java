@@ -0,0 +1,76 @@
+package org.everit.json.schema.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class EmailAddressesTest {
+
+    public Object[][] emails() {
+        return new Object[][] {
+                { "joe.bloggs@example.com", true },
+                { "a@b.com", true },
+                { "user+tag@example.com", true },
+                { "!#$%&'*+-/=?^_`{}|~@example.org", true },
+                { "\"john doe\"@example.com", true },
+                { "\"quoted\\\"pair\"@example.com", true },
+                { "\"a@b\"@example.com", true },
+                { "user@localhost", true },
+                { "user@[192.0.2.1]", true },
+                { "user@[IPv6:2001:db8::1]", true },
+                { "2962", false },
+                { "a.@b.com", false },
+                { ".a@b.com", false },
+                { "a..b@example.com", false },
+                { "@example.com", false },
+                { "user@", false },
+                { "user@exa_mple.com", false },
+                { "user@[300.0.0.1]", false },
+                { "user@[IPv6:2001:db8::g]", false },
+                { "user@[192.0.2.1", false },
+                { "\"unterminated@example.com", false },
+                { "\"a\"b\"@example.com", false },
+                { "us er@example.com", false },
+                { "실례@실례.테스트", false },
+                { new String(new char[65]).replace('\0', 'a') + "@example.com", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "emails")
+    public void email(String subject, boolean valid) {
+        assertEquals(valid, EmailAddresses.isEmail(subject));
+    }
+
+    public Object[][] idnEmails() {
+        return new Object[][] {
+                { "실례@실례.테스트", true },
+                { "joe.bloggs@example.com", true },
+                { "θσερ@εχαμπλε.ψομ", true },
+                { "\"실례\"@example.com", true },
+                { "2962", false },
+                { "실례.@실례.테스트", false },
+                { "실례@실례..테스트", false },
+                { "실례@-실례.테스트", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "idnEmails")
+    public void idnEmail(String subject, boolean valid) {
+        assertEquals(valid, EmailAddresses.isIdnEmail(subject));
+    }
+
+    @Test
+    public void nullIsNotAnEmail() {
+        assertEquals(false, EmailAddresses.isEmail(null));
+        assertEquals(false, EmailAddresses.isIdnEmail(null));
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.everit.json.schema.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class HostnamesTest {
+
+    private static String repeat(char ch, int times) {
+        return new String(new char[times]).replace('\0', ch);
+    }
+
+    public Object[][] hostnames() {
+        return new Object[][] {
+                { "www.example.com", true },
+                { "www.example.com.", true },
+                { "localhost", true },
+                { "xn--4gbwdl.xn--wgbh1c", true },
+                { "1.example.com", true },
+                { "a-b.C0M", true },
+                { repeat('a', 63) + ".com", true },
+                { repeat('a', 64) + ".com", false },
+                { repeat('a', 63) + "." + repeat('b', 63) + "." + repeat('c', 63) + "." + repeat('d', 61), true },
+                { repeat('a', 63) + "." + repeat('b', 63) + "." + repeat('c', 63) + "." + repeat('d', 62), false },
+                { "-a-host-name-that-starts-with--", false },
+                { "a-host-name-that-ends-with-", false },
+                { "not_a_valid_host_name", false },
+                { "example..com", false },
+                { ".example.com", false },
+                { "127.0.0.1", false },
+                { "exam ple.com", false },
+                { "실례.테스트", false },
+                { ".", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "hostnames")
+    public void hostname(String subject, boolean valid) {
+        assertEquals(valid, Hostnames.isHostname(subject));
+    }
+
+    public Object[][] idnHostnames() {
+        return new Object[][] {
+                { "www.example.com", true },
+                { "실례.테스트", true },
+                { "실례。테스트", true },
+                { "bücher.example", true },
+                { "का.example", true },
+                { "〮실례.테스트", false },
+                { "실〮례.테스트", false },
+                { "́a.example", false },
+                { "-실례.테스트", false },
+                { "실례..테스트", false },
+                { "실례.123", false },
+                { "not_valid.example", false },
+                { "a☃.example", false },
+                { repeat('실', 64) + ".example", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "idnHostnames")
+    public void idnHostname(String subject, boolean valid) {
+        assertEquals(valid, Hostnames.isIdnHostname(subject));
+    }
+
+    @Test
+    public void nullIsNotAHostname() {
+        assertEquals(false, Hostnames.isHostname(null));
+        assertEquals(false, Hostnames.isIdnHostname(null));
+    }
+
+}
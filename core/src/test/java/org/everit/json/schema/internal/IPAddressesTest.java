@@ -0,0 +1,97 @@
+package org.everit.json.schema.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class IPAddressesTest {
+
+    public Object[][] ipv4Addresses() {
+        return new Object[][] {
+                { "127.0.0.1", true },
+                { "0.0.0.0", true },
+                { "255.255.255.255", true },
+                { "192.168.0.10", true },
+                { "256.0.0.1", false },
+                { "1.2.3", false },
+                { "1.2.3.4.5", false },
+                { "1.2.3.", false },
+                { ".1.2.3", false },
+                { "1..2.3", false },
+                { "01.2.3.4", false },
+                { "1.2.3.0004", false },
+                { "0x7f.0.0.1", false },
+                { "2130706433", false },
+                { "1.2.3.4 ", false },
+                { "١.٢.٣.٤", false },
+                { "localhost", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "ipv4Addresses")
+    public void ipv4(String subject, boolean valid) {
+        assertEquals(valid, IPAddresses.isIPv4(subject));
+    }
+
+    public Object[][] ipv6Addresses() {
+        return new Object[][] {
+                { "2001:db8:85a3:0:0:8a2e:370:7334", true },
+                { "2001:0DB8:85A3:0000:0000:8A2E:0370:7334", true },
+                { "::", true },
+                { "::1", true },
+                { "1::", true },
+                { "fe80::1:2", true },
+                { "1:2:3:4:5:6:7::", true },
+                { "::2:3:4:5:6:7:8", true },
+                { "::ffff:192.0.2.1", true },
+                { "1:2:3:4:5:6:192.0.2.1", true },
+                { "1::5:6:192.0.2.1", true },
+                { "1:2:3:4:5:6:7:8:9", false },
+                { "1:2:3:4:5:6:7", false },
+                { "1:2:3:4:5:6:7:8::", false },
+                { "1::2::3", false },
+                { ":::", false },
+                { ":1:2:3:4:5:6:7", false },
+                { "1:2:3:4:5:6:7:", false },
+                { "12345::", false },
+                { "::g", false },
+                { "1:2:3:4:5:6:7:192.0.2.1", false },
+                { "1:2:3:4:5:6:7::192.0.2.1", false },
+                { "::256.0.0.1", false },
+                { "::ff.0.0.1", false },
+                { "fe80::1%eth0", false },
+                { "127.0.0.1", false },
+                { ":", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "ipv6Addresses")
+    public void ipv6(String subject, boolean valid) {
+        assertEquals(valid, IPAddresses.isIPv6(subject));
+    }
+
+    @Test
+    public void nullIsNotAnAddress() {
+        assertFalse(IPAddresses.isIPv4(null));
+        assertFalse(IPAddresses.isIPv6(null));
+    }
+
+    @Test
+    public void asInetAddressDoesNotResolveHostNames() {
+        IPAddressValidator subject = new IPAddressValidator();
+        assertFalse(subject.asInetAddress("localhost").isPresent());
+        assertEquals(4, subject.asInetAddress("127.0.0.1").get().getAddress().length);
+        assertEquals(16, subject.asInetAddress("::1").get().getAddress().length);
+    }
+
+}
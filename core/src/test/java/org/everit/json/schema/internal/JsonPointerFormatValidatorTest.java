@@ -2,7 +2,13 @@ package org.everit.json.schema.internal;
 
 import static java.lang.String.format;
 import static org.everit.json.schema.internal.ValidatorTestSupport.assertSuccess;
+import static org.junit.Assert.assertEquals;
 
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.everit.json.schema.i18n.MessageCatalog;
 import org.junit.Test;
 
 public class JsonPointerFormatValidatorTest {
@@ -49,6 +55,45 @@ public class JsonPointerFormatValidatorTest {
         assertFailure("#/");
     }
 
+    @Test
+    public void escapedTokens() {
+        assertSuccess("/~0~1/a~1b/~01", subject);
+    }
+
+    @Test
+    public void emptyTokens() {
+        assertSuccess("//a//", subject);
+    }
+
+    @Test
+    public void nullFailure() {
+        assertFailure(null);
+    }
+
+    @Test
+    public void catalogIsUsedIfFailureIsNotOverridden() {
+        MessageCatalog catalog = MessageCatalog.of(new ListResourceBundle() {
+
+            @Override protected Object[][] getContents() {
+                return new Object[][] { { "format.json-pointer", "[%1$s] ist kein JSON-Pointer" } };
+            }
+        });
+        assertEquals("[aaa] ist kein JSON-Pointer", subject.failureMessage("aaa", catalog));
+    }
+
+    @Test
+    public void overriddenFailureIsUsedByAllFailureMessages() {
+        JsonPointerFormatValidator overriding = new JsonPointerFormatValidator() {
+
+            @Override protected Optional<String> failure(String subject) {
+                return Optional.of("bad pointer: " + subject);
+            }
+        };
+        assertEquals(Optional.of("bad pointer: aaa"), overriding.validate("aaa"));
+        assertEquals("bad pointer: aaa", overriding.failureMessage("aaa"));
+        assertEquals("bad pointer: aaa", overriding.failureMessage("aaa", MessageCatalog.forLocale(Locale.GERMANY)));
+    }
+
     private void assertFailure(String input) {
         ValidatorTestSupport.assertFailure(input, subject, format("[%s] is not a valid JSON pointer", input));
     }
@@ -94,4 +94,19 @@ public class RelativeJsonPointerFormatValidatorTest {
     public void upwardsStepCountIsZeroFollowedByHashmark() {
         assertSuccess("0#", SUBJECT);
     }
+
+    @Test
+    public void jsonPointerFollowedByHashmark() {
+        assertSuccess("1/a/b#", SUBJECT);
+    }
+
+    @Test
+    public void invalidEscapeBeforeHashmark() {
+        assertFailure("1/a~#", SUBJECT, "[1/a~#] is not a valid relative JSON Pointer");
+    }
+
+    @Test
+    public void nullFailure() {
+        assertFailure(null, SUBJECT, "[null] is not a valid relative JSON Pointer");
+    }
 }
@@ -0,0 +1,100 @@
+package org.everit.json.schema.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class Rfc3339Test {
+
+    public Object[][] dates() {
+        return new Object[][] {
+                { "1963-06-19", true },
+                { "2016-02-29", true },
+                { "2000-02-29", true },
+                { "0000-01-01", true },
+                { "2015-12-31", true },
+                { "2015-02-29", false },
+                { "1900-02-29", false },
+                { "2015-04-31", false },
+                { "2015-13-01", false },
+                { "2015-00-01", false },
+                { "2015-01-00", false },
+                { "2015-01-32", false },
+                { "2015-1-01", false },
+                { "2015/01/01", false },
+                { "2013-350", false },
+                { "06/19/1963", false },
+                { "1963-06-19T", false },
+                { "", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "dates")
+    public void date(String subject, boolean valid) {
+        assertEquals(valid, Rfc3339.isDate(subject));
+    }
+
+    public Object[][] times() {
+        return new Object[][] {
+                { "08:30:06.283185Z", true },
+                { "11:00:00Z", true },
+                { "11:00:00z", true },
+                { "23:59:59+23:59", true },
+                { "00:00:00-00:00", true },
+                { "11:00:00.123456789Z", true },
+                { "23:59:60Z", true },
+                { "15:59:60-08:00", true },
+                { "00:29:60+00:30", true },
+                { "22:59:60Z", false },
+                { "23:59:60+01:00", false },
+                { "11:00:00.1234567890Z", false },
+                { "11:00:00.Z", false },
+                { "11:00:00.123", false },
+                { "11:00:00", false },
+                { "24:00:00Z", false },
+                { "11:60:00Z", false },
+                { "11:00:61Z", false },
+                { "11:00:00+24:00", false },
+                { "11:00:00+01:60", false },
+                { "11:00:00+0100", false },
+                { "11:00:00+01:00:00", false },
+                { "08:30:06 PST", false },
+                { "01:01:01,1111", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "times")
+    public void time(String subject, boolean valid) {
+        assertEquals(valid, Rfc3339.isTime(subject));
+    }
+
+    public Object[][] dateTimes() {
+        return new Object[][] {
+                { "1963-06-19T08:30:06.283185Z", true },
+                { "2016-02-29t11:00:00z", true },
+                { "1998-12-31T23:59:60Z", true },
+                { "1998-12-31T15:59:60.123-08:00", true },
+                { "2015-02-29T11:00:00Z", false },
+                { "1996-60-999T16:39:57-08:00", false },
+                { "2015-03-13T11:00:000", false },
+                { "2015-03-13 11:00:00Z", false },
+                { "2013-350T01:01:01", false },
+                { "06/19/1963 08:30:06 PST", false },
+                { "1963-06-19T", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "dateTimes")
+    public void dateTime(String subject, boolean valid) {
+        assertEquals(valid, Rfc3339.isDateTime(subject));
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.everit.json.schema.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class Rfc6570Test {
+
+    public Object[][] templates() {
+        return new Object[][] {
+                { "http://example.com/dictionary/{term:1}/{term}", true },
+                { "http://example.com/search{?q,lang}", true },
+                { "{+path}/here", true },
+                { "{/list*}", true },
+                { "{#frag}", true },
+                { "{.a}{;x,y}{&z}", true },
+                { "{var:9999}", true },
+                { "{a.b_c%2F}", true },
+                { "http://example.com/パス/{x}", true },
+                { "http://example.com/%2F", true },
+                { "", true },
+                { "{}", false },
+                { "{var", false },
+                { "var}", false },
+                { "{{var}}", false },
+                { "{=x}", false },
+                { "{|x}", false },
+                { "{var:0}", false },
+                { "{var:10000}", false },
+                { "{x*:3}", false },
+                { "{x,}", false },
+                { "{.a.}", false },
+                { "{a..b}", false },
+                { "{a-b}", false },
+                { "a b", false },
+                { "<x>", false },
+                { "%zz", false },
+                { "http://example.com/\uD83D", false },
+        };
+    }
+
+    @Test
+    @Parameters(method = "templates")
+    public void uriTemplate(String subject, boolean valid) {
+        assertEquals(valid, Rfc6570.isUriTemplate(subject));
+    }
+
+    @Test
+    public void nullIsNotATemplate() {
+        assertEquals(false, Rfc6570.isUriTemplate(null));
+    }
+
+}
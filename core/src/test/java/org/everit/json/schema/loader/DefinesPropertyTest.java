@@ -8,6 +8,7 @@ import org.everit.json.schema.ObjectSchema;
 import org.everit.json.schema.ResourceLoader;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.regexp.GuardedRegexpFactory;
 import org.json.JSONObject;
 import org.junit.Assert;
 import org.junit.Test;
@@ -57,6 +58,17 @@ public class DefinesPropertyTest {
         assertFalse(actual.definesProperty("b"));
     }
 
+    @Test(timeout = 10000)
+    public void patternPropertyExceedingMatchingBudgetDoesNotDefineField() {
+        ObjectSchema actual = (ObjectSchema) SchemaLoader.builder()
+                .regexpFactory(new GuardedRegexpFactory(1, false))
+                .schemaJson(new JSONObject("{\"patternProperties\":{\"^(a+)+$\":{}}}"))
+                .build().load().build();
+        Assert.assertTrue(actual.definesProperty("#/aaaa"));
+
+        assertFalse(actual.definesProperty("#/aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!"));
+    }
+
     @Test
     public void objectWithSchemaDep() {
         ObjectSchema actual = (ObjectSchema) SchemaLoader.load(get("objectWithSchemaDep"));
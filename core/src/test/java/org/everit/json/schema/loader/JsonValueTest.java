@@ -33,17 +33,13 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
-import java.util.Locale;
-import java.util.ResourceBundle;
 import java.util.function.Consumer;
 
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
 import org.everit.json.schema.SchemaException;
 import org.everit.json.schema.SchemaLocation;
 import org.everit.json.schema.loader.internal.DefaultSchemaClient;
 import org.json.JSONArray;
 import org.json.JSONObject;
-import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -91,14 +87,6 @@ public class JsonValueTest {
     @Rule
     public ExpectedException exc = ExpectedException.none();
 
-    @BeforeClass
-    public static void setI18N() {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
-    }
-
     @Test
     public void requireStringFailure() {
         exc.expect(SchemaException.class);
@@ -0,0 +1,129 @@
+package org.everit.json.schema.regexp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class GuardedRegexpFactoryTest {
+
+    private static final String EVIL_INPUT = repeat('a', 40) + "!";
+
+    private static String repeat(char ch, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; ++i) {
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    public Object[] catastrophicPatterns() {
+        return new Object[] {
+                new Object[] { "^(a+)+$" },
+                new Object[] { "(a*)*b" },
+                new Object[] { "^(\\w+\\s?)*$" },
+                new Object[] { "^(a|ab)*$" },
+                new Object[] { "^(a|a)+$" },
+                new Object[] { "^((ab)*c)+$" },
+                new Object[] { "(x+x+)+y" },
+                new Object[] { "^(?:a+){2,}$" },
+        };
+    }
+
+    public Object[] safePatterns() {
+        return new Object[] {
+                new Object[] { "^a+$" },
+                new Object[] { "^(ab)+$" },
+                new Object[] { "^(a|b)*$" },
+                new Object[] { "^(GET|POST)$" },
+                new Object[] { "^[a-z]+(-[a-z]+)?$" },
+                new Object[] { "^(a+)?$" },
+                new Object[] { "^[(a+)+]$" },
+                new Object[] { "^\\(a+\\)+$" },
+        };
+    }
+
+    @Test
+    @Parameters(method = "catastrophicPatterns")
+    public void catastrophicPatternIsRecognized(String pattern) {
+        assertTrue(GuardedRegexpFactory.isPotentiallyCatastrophic(pattern));
+    }
+
+    @Test
+    @Parameters(method = "safePatterns")
+    public void safePatternIsNotReported(String pattern) {
+        assertFalse(GuardedRegexpFactory.isPotentiallyCatastrophic(pattern));
+    }
+
+    @Test(timeout = 10000)
+    public void catastrophicMatchingIsInterrupted() {
+        Regexp regexp = new GuardedRegexpFactory().createHandler("^(a+)+$");
+        assertTrue(regexp instanceof StepBudgetedRegexp);
+        try {
+            regexp.matches(EVIL_INPUT);
+            fail("did not throw exception");
+        } catch (RegexpBudgetExceededException e) {
+            assertEquals("^(a+)+$", e.getPattern());
+        }
+        assertTrue(regexp.matches("aaaa"));
+    }
+
+    @Test(timeout = 10000)
+    public void interruptedMatchingIsPatternMatchingFailure() {
+        Regexp regexp = new GuardedRegexpFactory().createHandler("^(a+)+$");
+        assertTrue(regexp.patternMatchingFailure(EVIL_INPUT).isPresent());
+    }
+
+    @Test(timeout = 10000)
+    public void catastrophicPatternIsRoutedToRE2J() {
+        Regexp regexp = new GuardedRegexpFactory(GuardedRegexpFactory.DEFAULT_STEPS_PER_CHARACTER, true)
+                .createHandler("^(a|aa)+$");
+        assertTrue(regexp instanceof RE2JRegexp);
+        assertFalse(regexp.matches(EVIL_INPUT));
+        assertTrue(regexp.matches("aaaa"));
+    }
+
+    @Test
+    public void patternUnsupportedByRE2JIsBudgeted() {
+        Regexp regexp = new GuardedRegexpFactory(GuardedRegexpFactory.DEFAULT_STEPS_PER_CHARACTER, true)
+                .createHandler("^((a)\\2+)+$");
+        assertTrue(regexp instanceof StepBudgetedRegexp);
+        assertTrue(regexp.matches("aaaa"));
+    }
+
+    @Test
+    public void longBenignInputIsMatched() {
+        Regexp regexp = new GuardedRegexpFactory(2, false).createHandler("^a*b.*c$");
+        assertTrue(regexp.matches(repeat('a', 100000) + "b" + repeat('x', 100000) + "c"));
+    }
+
+    @Test
+    public void trivialPatternIsNotBudgeted() {
+        assertTrue(new GuardedRegexpFactory().createHandler("^[a-z]+$") instanceof TrivialRegexp);
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void invalidPattern() {
+        new GuardedRegexpFactory().createHandler("(a+");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveBudget() {
+        new GuardedRegexpFactory(0, false);
+    }
+
+    @Test
+    public void asString() {
+        assertEquals("^(a+)+$", new GuardedRegexpFactory().createHandler("^(a+)+$").toString());
+    }
+
+}
@@ -1,7 +1,9 @@
 package org.everit.json.schema.regexp;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
 
@@ -25,6 +27,14 @@ public class JavaUtilRegexpTest {
         assertEquals(Optional.of(new RegexpMatchingFailure()), createHandler().patternMatchingFailure("xxx"));
     }
 
+    @Test
+    public void matchesCharSequence() {
+        Regexp regexp = createHandler();
+        assertTrue(regexp.matches(new StringBuilder("aaaaab")));
+        assertFalse(regexp.matches(new StringBuilder("xxx")));
+        assertTrue(regexp.matches("aab"));
+    }
+
     @Test
     public void asString() {
         assertEquals(PATTERN, createHandler().toString());
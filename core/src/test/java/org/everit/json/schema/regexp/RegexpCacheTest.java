@@ -0,0 +1,70 @@
+package org.everit.json.schema.regexp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class RegexpCacheTest {
+
+    @Test
+    public void samePatternIsCompiledOnce() {
+        AtomicInteger compilations = new AtomicInteger();
+        RegexpCache cache = new RegexpCache(10);
+        Regexp first = cache.get("engine", "a+b", pattern -> {
+            compilations.incrementAndGet();
+            return new JavaUtilRegexp(pattern);
+        });
+        Regexp second = cache.get("engine", "a+b", pattern -> {
+            compilations.incrementAndGet();
+            return new JavaUtilRegexp(pattern);
+        });
+        assertSame(first, second);
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    public void patternsAreCachedPerEngine() {
+        RegexpCache cache = new RegexpCache(10);
+        Regexp javaUtil = cache.get("java.util.regex", "a+b", JavaUtilRegexp::new);
+        Regexp re2j = cache.get("re2j", "a+b", RE2JRegexp::new);
+        assertNotSame(javaUtil, re2j);
+        assertTrue(re2j instanceof RE2JRegexp);
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        RegexpCache cache = new RegexpCache(3);
+        for (int i = 0; i < 10; ++i) {
+            String pattern = "a{" + i + "}b*";
+            assertEquals(pattern, cache.get("engine", pattern, JavaUtilRegexp::new).toString());
+        }
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void invalidPatternIsNotCached() {
+        RegexpCache cache = new RegexpCache(10);
+        try {
+            cache.get("engine", "(", JavaUtilRegexp::new);
+            fail("did not throw exception for invalid pattern");
+        } catch (PatternSyntaxException e) {
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    public void factoriesShareInstances() {
+        assertSame(new JavaUtilRegexpFactory().createHandler("^a.*b$"),
+                new JavaUtilRegexpFactory().createHandler("^a.*b$"));
+        assertNotSame(new JavaUtilRegexpFactory().createHandler("^a.*b$"),
+                new RE2JRegexpFactory().createHandler("^a.*b$"));
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.everit.json.schema.regexp;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class RegexpSetTest {
+
+    private static final RegexpFactory FACTORY = new JavaUtilRegexpFactory();
+
+    private static RegexpSet setOf(String... patterns) {
+        List<Regexp> regexps = Arrays.stream(patterns).map(FACTORY::createHandler).collect(toList());
+        return RegexpSet.of(regexps);
+    }
+
+    private static int[] matchingIndexes(RegexpSet subject, String input) {
+        int[] matches = new int[subject.size()];
+        int count = subject.matchingIndexes(input, matches);
+        return Arrays.copyOf(matches, count);
+    }
+
+    @Test
+    public void literalPrefixes() {
+        assertEquals("x-", RegexpSet.literalPrefixOf(FACTORY.createHandler("^x-")));
+        assertEquals("ab", RegexpSet.literalPrefixOf(FACTORY.createHandler("^ab[0-9]+$")));
+        assertEquals("ab", RegexpSet.literalPrefixOf(FACTORY.createHandler("^ab+")));
+        assertEquals("a", RegexpSet.literalPrefixOf(FACTORY.createHandler("^ab*")));
+        assertEquals("a", RegexpSet.literalPrefixOf(FACTORY.createHandler("^ab{0,2}")));
+        assertNull(RegexpSet.literalPrefixOf(FACTORY.createHandler("^a?")));
+        assertNull(RegexpSet.literalPrefixOf(FACTORY.createHandler("x-")));
+        assertNull(RegexpSet.literalPrefixOf(FACTORY.createHandler("^a|b")));
+        assertNull(RegexpSet.literalPrefixOf(FACTORY.createHandler("^(?i)abc")));
+        assertNull(RegexpSet.literalPrefixOf(FACTORY.createHandler("^\\d")));
+    }
+
+    @Test
+    public void foreignRegexpsAreNotIndexed() {
+        Regexp foreign = input -> Optional.empty();
+        assertNull(RegexpSet.literalPrefixOf(foreign));
+        RegexpSet subject = RegexpSet.of(asList(FACTORY.createHandler("^a"), foreign));
+        assertArrayEquals(new int[] { 1 }, matchingIndexes(subject, "b"));
+    }
+
+    @Test
+    public void findsAllMatchingRegexpsInOrder() {
+        RegexpSet subject = setOf("^x-", "b", "^x-[0-9]+$", "^y", "^x-1$", "[0-9]$");
+        assertArrayEquals(new int[] { 0, 2, 4, 5 }, matchingIndexes(subject, "x-1"));
+        assertArrayEquals(new int[] { 0, 1 }, matchingIndexes(subject, "x-b"));
+        assertArrayEquals(new int[] { 3 }, matchingIndexes(subject, "yes"));
+        assertArrayEquals(new int[0], matchingIndexes(subject, ""));
+        assertArrayEquals(new int[0], matchingIndexes(subject, "z"));
+    }
+
+}
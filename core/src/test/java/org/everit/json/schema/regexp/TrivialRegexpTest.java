@@ -0,0 +1,153 @@
+package org.everit.json.schema.regexp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.re2j.PatternSyntaxException;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class TrivialRegexpTest {
+
+    private static final String[] INPUTS = { "", "x", "x-", "x-foo", "ax-", "X-", "foo", "foo\n", "foo\r\n", "foo\r",
+            "foo\n\n", "foo ", "foo\u0085", "foo\u2028", "\n", "abc_123", "abc-123", "ABC", "a", "aa", "aaaa", "1234", "12345",
+            "123", "1234\n", "12a4", "GET", "POST", "PUT", "PATCH", "GETX", "xGET", "POST\n", "id-", "id-42",
+            "id-42.json", "42.json", ".json", "a.b", "a-b", "😀", "😀😀", "aa\r\n",
+            "a]b", "-", "^", "$" };
+
+    public Object[] trivialPatterns() {
+        return new Object[] {
+                new Object[] { "^x-" },
+                new Object[] { "x-" },
+                new Object[] { "foo$" },
+                new Object[] { "^foo$" },
+                new Object[] { "" },
+                new Object[] { "^$" },
+                new Object[] { "^[a-z0-9_]+$" },
+                new Object[] { "^[a-z0-9_]*$" },
+                new Object[] { "^\\d{4}$" },
+                new Object[] { "^\\d{2,3}$" },
+                new Object[] { "^\\d{2,}$" },
+                new Object[] { "^\\w+$" },
+                new Object[] { "^[^a]+$" },
+                new Object[] { "^[^a]{2}$" },
+                new Object[] { "^[-a]+$" },
+                new Object[] { "^[a-]?$" },
+                new Object[] { "^[\\]a]+$" },
+                new Object[] { "^(GET|POST|PUT)$" },
+                new Object[] { "^(?:GET|POST|PUT)$" },
+                new Object[] { "^(GET|POST)" },
+                new Object[] { "(GET|POST)$" },
+                new Object[] { "(ET|OS)" },
+                new Object[] { "^(GET|)$" },
+                new Object[] { "^id-[0-9]*" },
+                new Object[] { "^id-\\d{2}" },
+                new Object[] { "^id-\\d+\\.json$" },
+                new Object[] { "^[0-9]+\\.json$" },
+                new Object[] { "^a\\.b$" },
+                new Object[] { "^a+$" },
+                new Object[] { "^a{2}$" },
+                new Object[] { "^a{1000}$" },
+                new Object[] { "^xa?$" },
+                new Object[] { "^\\^" },
+                new Object[] { "\\$$" },
+        };
+    }
+
+    @Test
+    @Parameters(method = "trivialPatterns")
+    public void matchesLikeJavaUtilRegex(String pattern) {
+        TrivialRegexp trivial = TrivialRegexp.parse(pattern, true);
+        assertNotNull(trivial);
+        JavaUtilRegexp expected = new JavaUtilRegexp(pattern);
+        for (String input : INPUTS) {
+            assertEquals("/" + pattern + "/ on " + input, expected.patternMatchingFailure(input).isPresent(),
+                    trivial.patternMatchingFailure(input).isPresent());
+        }
+    }
+
+    @Test
+    @Parameters(method = "trivialPatterns")
+    public void matchesLikeRE2J(String pattern) {
+        TrivialRegexp trivial = TrivialRegexp.parse(pattern, false);
+        assertNotNull(trivial);
+        RE2JRegexp expected = new RE2JRegexp(pattern);
+        for (String input : INPUTS) {
+            assertEquals("/" + pattern + "/ on " + input, expected.patternMatchingFailure(input).isPresent(),
+                    trivial.patternMatchingFailure(input).isPresent());
+        }
+    }
+
+    public Object[] nonTrivialPatterns() {
+        return new Object[] {
+                new Object[] { "a.b*c" },
+                new Object[] { "^aa.*b$" },
+                new Object[] { "[a-z]+" },
+                new Object[] { "^[a-z]+[0-9]+$" },
+                new Object[] { "^(a|b)+$" },
+                new Object[] { "^(?i)foo$" },
+                new Object[] { "^\\s+$" },
+                new Object[] { "^\\.+$" },
+                new Object[] { "^a+?$" },
+                new Object[] { "^a++$" },
+                new Object[] { "^[z-a]$" },
+                new Object[] { "^[\\d-z]$" },
+                new Object[] { "^[a&&b]$" },
+                new Object[] { "^[[:alpha:]]$" },
+                new Object[] { "^[]$" },
+                new Object[] { "^x{2$" },
+                new Object[] { "^😀+$" },
+                new Object[] { "^a$b" },
+                new Object[] { "^foo$|^bar$" },
+                new Object[] { "^(a(b))$" },
+                new Object[] { "^a{1001}$" },
+                new Object[] { "^a{2,1001}$" },
+        };
+    }
+
+    @Test
+    @Parameters(method = "nonTrivialPatterns")
+    public void nonTrivialPatternIsNotParsed(String pattern) {
+        assertNull(TrivialRegexp.parse(pattern, true));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void repeatCountAboveRE2JLimitIsRejectedByRE2J() {
+        new RE2JRegexpFactory().createHandler("^a{1001}$");
+    }
+
+    @Test
+    public void repeatCountAboveRE2JLimitIsMatchedByJavaUtilRegex() {
+        Regexp regexp = new JavaUtilRegexpFactory().createHandler("^a{1001}$");
+        assertTrue(regexp instanceof JavaUtilRegexp);
+        assertTrue(regexp.matches(repeat('a', 1001)));
+        assertFalse(regexp.matches(repeat('a', 1000)));
+    }
+
+    private static String repeat(char ch, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; ++i) {
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void asString() {
+        assertEquals("^(GET|POST)$", new JavaUtilRegexpFactory().createHandler("^(GET|POST)$").toString());
+    }
+
+    @Test
+    public void literalPrefixIsStillIndexed() {
+        assertEquals("x-", RegexpSet.literalPrefixOf(new RE2JRegexpFactory().createHandler("^x-")));
+    }
+
+}
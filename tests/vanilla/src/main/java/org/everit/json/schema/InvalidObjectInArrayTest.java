@@ -18,17 +18,13 @@ package org.everit.json.schema;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.Locale;
-import java.util.ResourceBundle;
 
 import org.apache.commons.io.Charsets;
 import org.apache.commons.io.IOUtils;
-import org.everit.json.schema.i18n.ResourceBundleThreadLocal;
 import org.everit.json.schema.loader.SchemaLoader;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.junit.Assert;
-import org.junit.BeforeClass;
 import org.junit.Test;
 
 public class InvalidObjectInArrayTest {
@@ -42,14 +38,6 @@ public class InvalidObjectInArrayTest {
         }
     }
 
-    @BeforeClass
-    public static void setI18N() {
-        if (ResourceBundleThreadLocal.get() == null) {
-            Locale locale = new Locale("en", "US");
-            ResourceBundleThreadLocal.set(ResourceBundle.getBundle("MessageBundle", locale));
-        }
-    }
-
     @Test
     public void test() {
         Schema schema = SchemaLoader.load(readObject("schema.json"));
@@ -107,4 +107,13 @@ public class TestCase {
         testWithValidator(Validator.builder().build(), schema);
     }
 
+    public void runTestInBooleanMode() {
+        boolean valid = Validator.builder().build().isValid(schema, inputData);
+        if (valid && !expectedToBeValid) {
+            throw new AssertionError("false success for " + inputDescription);
+        } else if (!valid && expectedToBeValid) {
+            throw new AssertionError("false failure for " + inputDescription);
+        }
+    }
+
 }
@@ -47,4 +47,9 @@ public class TestSuiteTest {
         tc.runTestInEarlyFailureMode();
     }
 
+    @Test
+    public void testInBooleanMode() {
+        tc.runTestInBooleanMode();
+    }
+
 }
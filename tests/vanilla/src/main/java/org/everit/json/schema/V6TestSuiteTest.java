@@ -49,4 +49,9 @@ public class V6TestSuiteTest {
         tc.runTestInEarlyFailureMode();
     }
 
+    @Test
+    public void testInBooleanMode() {
+        tc.runTestInBooleanMode();
+    }
+
 }
@@ -48,4 +48,9 @@ public class V7TestSuiteTest {
     public void testInEarlyFailingMode() {
         tc.runTestInEarlyFailureMode();
     }
+
+    @Test
+    public void testInBooleanMode() {
+        tc.runTestInBooleanMode();
+    }
 }